@@ -0,0 +1,241 @@
+package com.reliaquest.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.reliaquest.api.client.RequestContext;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Per-id employee lookups, answered from the first of these tiers that knows the id:
+ * <ol>
+ *   <li>Employees found recently. The tier is bounded by Caffeine's W-TinyLFU policy, which admits a new id only when
+ *       it has been read more often than the id it would evict, so a burst of one-off ids cannot flush the hot ones.
+ *   <li>Ids recently found missing, kept for a short TTL so that repeated lookups of an unknown id stay local.
+ *   <li>Optionally, the full-list snapshot the client retains whenever the full list is fetched anyway.
+ *   <li>The loader, usually an upstream call, whose duration is recorded by result. Concurrent misses of one id wait
+ *       for a single load.
+ * </ol>
+ * Deleted ids are remembered as missing for at least as long as a snapshot may serve them, so that the second tier
+ * cannot bring them back.
+ */
+public class EmployeeCache {
+
+    /**
+     * @param secondTierMaxAge oldest snapshot the second tier reads from, or {@link Duration#ZERO} without one.
+     */
+    public record Options(
+            long maximumSize, Duration ttl, long missMaximumSize, Duration missTtl, Duration secondTierMaxAge) {}
+
+    private enum Miss {
+        NOT_FOUND,
+        DELETED
+    }
+
+    private final Cache<String, Employee> employees;
+
+    private final Cache<String, Miss> misses;
+
+    /**
+     * Loads in flight, by id. Writes and deletes of an id replace its entry under the map's per-key lock, which is how a
+     * load learns that it has been superseded.
+     */
+    private final ConcurrentMap<String, CompletableFuture<Loaded>> loading = new ConcurrentHashMap<>();
+
+    private final Function<String, Employee> secondTier;
+
+    private final Counter secondTierHits;
+
+    private final Counter sharedLoads;
+
+    private final Timer foundLoads;
+
+    private final Timer missingLoads;
+
+    private final Timer failedLoads;
+
+    /**
+     * @param secondTier looks an id up in retained data, or {@code null} to go straight to the loader.
+     */
+    public EmployeeCache(Options options, Function<String, Employee> secondTier, MeterRegistry meterRegistry) {
+        this.employees = Caffeine.newBuilder()
+                .maximumSize(options.maximumSize())
+                .expireAfterWrite(options.ttl())
+                .recordStats()
+                .build();
+        Duration deletedTtl = options.missTtl().compareTo(options.secondTierMaxAge()) >= 0
+                ? options.missTtl()
+                : options.secondTierMaxAge();
+        this.misses = Caffeine.newBuilder()
+                .maximumSize(options.missMaximumSize())
+                .expireAfter(new Expiry<String, Miss>() {
+                    @Override
+                    public long expireAfterCreate(String id, Miss miss, long currentTime) {
+                        return (miss == Miss.DELETED ? deletedTtl : options.missTtl()).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String id, Miss miss, long currentTime, long currentDuration) {
+                        return expireAfterCreate(id, miss, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String id, Miss miss, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        this.secondTier = secondTier;
+        CaffeineCacheMetrics.monitor(meterRegistry, employees, "employee.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, misses, "employee.by-id.misses");
+        this.secondTierHits = meterRegistry.counter("employee.by-id.second-tier.hits");
+        this.sharedLoads = meterRegistry.counter("employee.by-id.shared-loads");
+        this.foundLoads = loadTimer(meterRegistry, "found");
+        this.missingLoads = loadTimer(meterRegistry, "missing");
+        this.failedLoads = loadTimer(meterRegistry, "error");
+    }
+
+    /**
+     * @return the employee with {@code id}, or {@code null} when it does not exist. Concurrent lookups of an id no tier
+     *     holds share a single load.
+     */
+    public Employee get(String id, Function<String, Employee> loader) {
+        Employee employee = employees.getIfPresent(id);
+        if (employee != null || misses.getIfPresent(id) != null) {
+            return employee;
+        }
+        CompletableFuture<Loaded> load = new CompletableFuture<>();
+        CompletableFuture<Loaded> inFlight = loading.putIfAbsent(id, load);
+        if (inFlight != null) {
+            sharedLoads.increment();
+            return await(id, inFlight);
+        }
+        try {
+            Loaded loaded = load(id, loader, load);
+            load.complete(loaded);
+            return loaded.employee();
+        } catch (RuntimeException e) {
+            loading.remove(id, load);
+            load.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public void put(Employee employee) {
+        loading.compute(employee.getId(), (id, inFlight) -> {
+            employees.put(id, employee);
+            misses.invalidate(id);
+            return null;
+        });
+    }
+
+    /**
+     * Drops {@code id} from every tier, for when its state upstream is unknown.
+     */
+    public void invalidate(String id) {
+        loading.compute(id, (key, inFlight) -> {
+            employees.invalidate(id);
+            misses.invalidate(id);
+            return null;
+        });
+    }
+
+    public void markDeleted(String id) {
+        loading.compute(id, (key, inFlight) -> {
+            employees.invalidate(id);
+            misses.put(id, Miss.DELETED);
+            return null;
+        });
+    }
+
+    private Loaded load(String id, Function<String, Employee> loader, CompletableFuture<Loaded> load) {
+        Employee employee;
+        if (secondTier != null && (employee = secondTier.apply(id)) != null) {
+            secondTierHits.increment();
+            store(id, load, employee);
+            return new Loaded(employee, null);
+        }
+
+        long start = System.nanoTime();
+        try {
+            employee = loader.apply(id);
+        } catch (RuntimeException e) {
+            failedLoads.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        (employee != null ? foundLoads : missingLoads).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        Instant servedStaleAsOf = RequestContext.current().getServedStaleAsOf().orElse(null);
+        // A copy retained from before an outage must not outlive the outage in this cache.
+        if (servedStaleAsOf == null) {
+            store(id, load, employee);
+        } else {
+            loading.remove(id, load);
+        }
+        return new Loaded(employee, servedStaleAsOf);
+    }
+
+    /**
+     * Caches what {@code load} found, unless {@code id} was written or deleted while it ran: those remove the load from
+     * {@link #loading} under the same lock, so a result read before them can never overwrite them.
+     */
+    private void store(String id, CompletableFuture<Loaded> load, Employee employee) {
+        loading.computeIfPresent(id, (key, inFlight) -> {
+            if (inFlight != load) {
+                return inFlight;
+            }
+            if (misses.getIfPresent(id) != Miss.DELETED) {
+                if (employee != null) {
+                    employees.put(id, employee);
+                } else {
+                    misses.put(id, Miss.NOT_FOUND);
+                }
+            }
+            return null;
+        });
+    }
+
+    private static Employee await(String id, CompletableFuture<Loaded> load) {
+        RequestContext context = RequestContext.current();
+        try {
+            Loaded loaded = load.get(context.remainingNanos(), TimeUnit.NANOSECONDS);
+            if (loaded.servedStaleAsOf() != null) {
+                context.markServedStale(loaded.servedStaleAsOf());
+            }
+            return loaded.employee();
+        } catch (TimeoutException e) {
+            throw new ResourceAccessException("Deadline exceeded waiting for employee: " + id);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Failed to load employee: " + id, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Interrupted waiting for employee: " + id);
+        }
+    }
+
+    private record Loaded(Employee employee, Instant servedStaleAsOf) {}
+
+    private static Timer loadTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("employee.by-id.load")
+                .description("Time to load an employee the cache did not hold")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,233 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.client.IEmployeeApiClient;
+import com.reliaquest.api.client.RequestContext;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fetches the full employee list in the background, once the application is ready and then every {@code interval},
+ * and builds a {@link WarmEmployeeView} from it. Failed or skipped fetches are retried after {@code retry-backoff}.
+ * Until the first view is built, {@link WarmEmployeeViewHealthIndicator} keeps the readiness group out of service.
+ *
+ * <p>Fetches count against the mock employee API's request limit, so at most {@code max-refreshes} are started per
+ * {@code budget-window}, retries and early refreshes included; each one sends one request per shard. A create or
+ * delete made through the api drops the current view and asks for an early refresh. A fetch that was in flight during
+ * the write is discarded, so a view never predates a write made through the api.
+ */
+@Component
+public class EmployeePrefetcher {
+    private static final Logger logger = LoggerFactory.getLogger(EmployeePrefetcher.class);
+
+    private final IEmployeeApiClient restApiClient;
+    private final boolean enabled;
+    private final Duration interval;
+    private final Duration retryBackoff;
+    private final Duration maxAge;
+    private final Duration timeout;
+    private final int maxRefreshes;
+    private final long budgetWindowNanos;
+    private final LongSupplier clock;
+    private final Deque<Long> refreshStarts = new ArrayDeque<>();
+    private final ScheduledExecutorService scheduler;
+
+    private final Counter succeeded;
+    private final Counter failed;
+    private final Counter skipped;
+
+    private WarmEmployeeView view;
+    private long writes;
+    private volatile boolean warm;
+
+    @Autowired
+    public EmployeePrefetcher(
+            IEmployeeApiClient restApiClient,
+            MeterRegistry meterRegistry,
+            @Value("${api.prefetch.enabled:true}") boolean enabled,
+            @Value("${api.prefetch.interval:1m}") Duration interval,
+            @Value("${api.prefetch.retry-backoff:5s}") Duration retryBackoff,
+            @Value("${api.prefetch.max-age:2m}") Duration maxAge,
+            @Value("${api.prefetch.timeout:10s}") Duration timeout,
+            @Value("${api.prefetch.max-refreshes:3}") int maxRefreshes,
+            @Value("${api.prefetch.budget-window:1m}") Duration budgetWindow) {
+        this(
+                restApiClient,
+                meterRegistry,
+                enabled,
+                interval,
+                retryBackoff,
+                maxAge,
+                timeout,
+                maxRefreshes,
+                budgetWindow,
+                System::nanoTime);
+    }
+
+    EmployeePrefetcher(
+            IEmployeeApiClient restApiClient,
+            MeterRegistry meterRegistry,
+            boolean enabled,
+            Duration interval,
+            Duration retryBackoff,
+            Duration maxAge,
+            Duration timeout,
+            int maxRefreshes,
+            Duration budgetWindow,
+            LongSupplier clock) {
+        this.restApiClient = restApiClient;
+        this.enabled = enabled;
+        this.interval = interval;
+        this.retryBackoff = retryBackoff;
+        this.maxAge = maxAge;
+        this.timeout = timeout;
+        this.maxRefreshes = maxRefreshes;
+        this.budgetWindowNanos = budgetWindow.toNanos();
+        this.clock = clock;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-prefetcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.succeeded = meterRegistry.counter("api.prefetch.refresh", "outcome", "succeeded");
+        this.failed = meterRegistry.counter("api.prefetch.refresh", "outcome", "failed");
+        this.skipped = meterRegistry.counter("api.prefetch.refresh", "outcome", "skipped");
+        meterRegistry.gauge("api.prefetch.age", this, prefetcher -> {
+            WarmEmployeeView current = prefetcher.latestView();
+            return current != null ? current.age().toMillis() / 1000.0 : Double.NaN;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            scheduler.execute(this::refreshAndReschedule);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return whether a view has been built at least once.
+     */
+    public boolean isWarm() {
+        return warm;
+    }
+
+    /**
+     * @return the current view, or {@code null} when there is none or it is older than {@code max-age}.
+     */
+    public WarmEmployeeView currentView() {
+        WarmEmployeeView current = latestView();
+        return current != null && current.age().compareTo(maxAge) <= 0 ? current : null;
+    }
+
+    /**
+     * Drops the current view after a write and asks for an early refresh, within the budget.
+     */
+    public void invalidate() {
+        synchronized (this) {
+            writes++;
+            view = null;
+        }
+        if (enabled && !scheduler.isShutdown()) {
+            scheduler.execute(this::refresh);
+        }
+    }
+
+    /**
+     * Fetches and installs a new view unless the budget is used up.
+     *
+     * @return whether a new view was installed.
+     */
+    boolean refresh() {
+        long generation;
+        synchronized (this) {
+            if (!tryStartRefresh()) {
+                skipped.increment();
+                return false;
+            }
+            generation = writes;
+        }
+        Instant fetchedAt = Instant.now();
+        RequestContext.begin(timeout);
+        try {
+            List<Employee> employees = restApiClient.getEmployees();
+            if (RequestContext.current().getServedStaleAsOf().isPresent()) {
+                logger.warn("Upstream unavailable, not prefetching retained employees");
+                failed.increment();
+                return false;
+            }
+            WarmEmployeeView next = new WarmEmployeeView(employees, fetchedAt);
+            synchronized (this) {
+                if (writes != generation) {
+                    logger.debug("Discarding prefetch that overlapped a write");
+                    skipped.increment();
+                    return false;
+                }
+                view = next;
+            }
+            warm = true;
+            succeeded.increment();
+            logger.debug("Prefetched {} employees", employees.size());
+            return true;
+        } catch (RuntimeException e) {
+            logger.warn("Unable to prefetch employees", e);
+            failed.increment();
+            return false;
+        } finally {
+            RequestContext.end();
+        }
+    }
+
+    private void refreshAndReschedule() {
+        boolean refreshed = refresh();
+        if (!scheduler.isShutdown()) {
+            Duration delay = refreshed ? interval : retryBackoff;
+            scheduler.schedule(this::refreshAndReschedule, delay.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private synchronized WarmEmployeeView latestView() {
+        return view;
+    }
+
+    /*
+     * Sliding window over the start times of recent refreshes. Called with the monitor held.
+     */
+    private boolean tryStartRefresh() {
+        long now = clock.getAsLong();
+        while (!refreshStarts.isEmpty() && now - refreshStarts.peekFirst() >= budgetWindowNanos) {
+            refreshStarts.pollFirst();
+        }
+        if (refreshStarts.size() >= maxRefreshes) {
+            return false;
+        }
+        refreshStarts.addLast(now);
+        return true;
+    }
+}
@@ -0,0 +1,87 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.client.EmployeeSnapshot;
+import com.reliaquest.api.model.Employee;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * The full employee list as of one prefetch, with the answers to the aggregate reads worked out in advance: the
+ * highest salary, the names of the top ten earners and lower-cased names for searching. Employees are retained in an
+ * {@link EmployeeSnapshot}, so they are materialized only as a response is written.
+ */
+public final class WarmEmployeeView {
+
+    static final int TOP_EARNERS = 10;
+
+    private static final Comparator<Employee> BY_SALARY = Comparator.comparingInt(Employee::getSalary);
+
+    private final EmployeeSnapshot snapshot;
+    private final String[] lowerCaseNames;
+    private final int highestSalary;
+    private final List<String> topEarnerNames;
+
+    public WarmEmployeeView(List<Employee> employees, Instant fetchedAt) {
+        this.snapshot = new EmployeeSnapshot(employees, fetchedAt);
+        this.lowerCaseNames = new String[employees.size()];
+        PriorityQueue<Employee> topEarners = new PriorityQueue<>(TOP_EARNERS + 1, BY_SALARY);
+        int highest = 0;
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            lowerCaseNames[i] = employee.getName() != null ? employee.getName().toLowerCase() : null;
+            highest = Math.max(highest, employee.getSalary());
+            topEarners.add(employee);
+            if (topEarners.size() > TOP_EARNERS) {
+                topEarners.poll();
+            }
+        }
+        this.highestSalary = highest;
+        List<String> names = new ArrayList<>(topEarners.size());
+        while (!topEarners.isEmpty()) {
+            names.add(0, topEarners.poll().getName());
+        }
+        this.topEarnerNames = List.copyOf(names);
+    }
+
+    public List<Employee> getEmployees() {
+        return snapshot.getEmployees();
+    }
+
+    /**
+     * @return the employees whose name contains {@code searchString}, ignoring case, in list order.
+     */
+    public List<Employee> searchByName(String searchString) {
+        String needle = searchString.toLowerCase();
+        List<Employee> employees = snapshot.getEmployees();
+        List<Employee> matches = new ArrayList<>();
+        for (int i = 0; i < lowerCaseNames.length; i++) {
+            if (lowerCaseNames[i] != null && lowerCaseNames[i].contains(needle)) {
+                matches.add(employees.get(i));
+            }
+        }
+        return matches;
+    }
+
+    public int getHighestSalary() {
+        return highestSalary;
+    }
+
+    /**
+     * @return the names of the ten highest earners, highest first.
+     */
+    public List<String> getTopEarnerNames() {
+        return topEarnerNames;
+    }
+
+    public Instant getFetchedAt() {
+        return snapshot.getFetchedAt();
+    }
+
+    public Duration age() {
+        return snapshot.age();
+    }
+}
@@ -0,0 +1,32 @@
+package com.reliaquest.api.cache;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Out of service until {@link EmployeePrefetcher} has built its first view. Part of the readiness group, so the api
+ * receives traffic only once aggregate reads can be answered from memory. Always up when prefetching is disabled.
+ */
+@Component
+public class WarmEmployeeViewHealthIndicator implements HealthIndicator {
+
+    private final EmployeePrefetcher employeePrefetcher;
+
+    public WarmEmployeeViewHealthIndicator(EmployeePrefetcher employeePrefetcher) {
+        this.employeePrefetcher = employeePrefetcher;
+    }
+
+    @Override
+    public Health health() {
+        if (!employeePrefetcher.isEnabled()) {
+            return Health.up().withDetail("enabled", false).build();
+        }
+        WarmEmployeeView view = employeePrefetcher.currentView();
+        Health.Builder builder = employeePrefetcher.isWarm() ? Health.up() : Health.outOfService();
+        if (view != null) {
+            builder.withDetail("fetchedAt", view.getFetchedAt().toString());
+        }
+        return builder.withDetail("warm", employeePrefetcher.isWarm()).build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.reliaquest.api.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * One {@link CircuitBreaker} per upstream shard, so a failing shard does not cut off the healthy ones.
+ */
+@Component
+public class CircuitBreakers {
+
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final Duration openDuration;
+    private final int halfOpenCalls;
+
+    public CircuitBreakers(
+            MeterRegistry meterRegistry,
+            @Value("${api.circuit-breaker.window-size:20}") int windowSize,
+            @Value("${api.circuit-breaker.minimum-calls:5}") int minimumCalls,
+            @Value("${api.circuit-breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+            @Value("${api.circuit-breaker.open-duration:30s}") Duration openDuration,
+            @Value("${api.circuit-breaker.half-open-calls:1}") int halfOpenCalls) {
+        this.meterRegistry = meterRegistry;
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDuration = openDuration;
+        this.halfOpenCalls = halfOpenCalls;
+    }
+
+    public CircuitBreaker forShard(String shardUrl) {
+        return circuitBreakers.computeIfAbsent(shardUrl, this::create);
+    }
+
+    public Map<String, CircuitBreaker> all() {
+        return Collections.unmodifiableMap(circuitBreakers);
+    }
+
+    private CircuitBreaker create(String shardUrl) {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(
+                shardUrl, windowSize, minimumCalls, failureRateThreshold, openDuration, halfOpenCalls);
+        circuitBreaker.onTransition((from, to) -> meterRegistry
+                .counter(
+                        "employee.upstream.circuit.transitions",
+                        "shard",
+                        shardUrl,
+                        "from",
+                        from.name(),
+                        "to",
+                        to.name())
+                .increment());
+        Gauge.builder("employee.upstream.circuit.state", circuitBreaker, breaker -> breaker.getState()
+                        .ordinal())
+                .description("0 = closed, 1 = open, 2 = half-open")
+                .tag("shard", shardUrl)
+                .register(meterRegistry);
+        Gauge.builder("employee.upstream.circuit.failure.rate", circuitBreaker, CircuitBreaker::failureRate)
+                .tag("shard", shardUrl)
+                .register(meterRegistry);
+        return circuitBreaker;
+    }
+}
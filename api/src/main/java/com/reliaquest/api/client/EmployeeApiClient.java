@@ -1,197 +1,586 @@
 package com.reliaquest.api.client;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.codec.EmployeeCodec;
 import com.reliaquest.api.model.Employee;
-import com.reliaquest.api.model.EmployeeResponse;
+import com.reliaquest.api.model.EmployeeDTO;
+import com.reliaquest.api.profiling.DecodeEvent;
+import com.reliaquest.api.profiling.UpstreamCallEvent;
+import com.reliaquest.common.filter.EmployeeFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RequestCallback;
 import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
 
 @Component
 public class EmployeeApiClient implements IEmployeeApiClient {
     private static final Logger logger = LoggerFactory.getLogger(EmployeeApiClient.class);
 
-    @Value("${mock.employee.api.url}")
-    private String mockEmployeeApiUrl;
+    private static final Comparator<Employee> BY_SALARY_DESCENDING =
+            Comparator.comparingInt(Employee::getSalary).reversed();
 
     private final RestTemplate restTemplate;
 
-    private final ObjectMapper objectMapper;
+    private final HedgedRequestExecutor requestExecutor;
+
+    private final CircuitBreakers circuitBreakers;
+
+    private final ShardRouter shardRouter;
+
+    private final EmployeeCodec employeeCodec;
+
+    private final Map<String, EmployeeSnapshot> lastKnownGood = new ConcurrentHashMap<>();
+
+    private final Counter circuitRejections;
+
+    private final Counter degradedReads;
 
     @Autowired
-    public EmployeeApiClient(RestTemplate restTemplate) {
+    public EmployeeApiClient(
+            RestTemplate restTemplate,
+            HedgedRequestExecutor requestExecutor,
+            CircuitBreakers circuitBreakers,
+            ShardRouter shardRouter,
+            EmployeeCodec employeeCodec,
+            MeterRegistry meterRegistry) {
         this.restTemplate = restTemplate;
-        this.objectMapper = new ObjectMapper();
+        this.requestExecutor = requestExecutor;
+        this.circuitBreakers = circuitBreakers;
+        this.shardRouter = shardRouter;
+        this.employeeCodec = employeeCodec;
+        this.circuitRejections = meterRegistry.counter("employee.upstream.circuit.rejected");
+        this.degradedReads = meterRegistry.counter("employee.upstream.degraded.reads");
     }
 
+    /**
+     * Gathers the full list from every shard in parallel.
+     */
     @Override
-    public List<Employee> getEmployees(String path) {
-        ResponseEntity<List<Employee>> response = getEmployeeList(path);
-        return (response.getStatusCode() == HttpStatus.OK && response.getBody() != null)
-                ? response.getBody()
-                : Collections.emptyList();
+    public List<Employee> getEmployees() {
+        List<List<Employee>> shards = requestExecutor.scatter(shardRouter.allShardUrls(), this::getShardEmployees);
+        if (shards.size() == 1) {
+            return shards.get(0);
+        }
+        List<Employee> employees = new ArrayList<>(shards.stream().mapToInt(List::size).sum());
+        shards.forEach(employees::addAll);
+        return employees;
+    }
+
+    /**
+     * Asks every shard for its own top {@code limit} earners and merges them; the global top {@code limit} is always
+     * among those candidates.
+     */
+    @Override
+    public List<Employee> getTopEarningEmployees(int limit) {
+        return requestExecutor
+                .scatter(shardRouter.allShardUrls(), shardUrl -> getShardTopEarners(shardUrl, limit))
+                .stream()
+                .flatMap(List::stream)
+                .sorted(BY_SALARY_DESCENDING)
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Pushes {@code filter} down to every shard, which answers from its range indexes with at most
+     * {@code filter.limit} matches, and merges the results in the filter's order.
+     */
+    @Override
+    public List<Employee> getEmployeesByFilter(EmployeeFilter filter) {
+        return requestExecutor
+                .scatter(shardRouter.allShardUrls(), shardUrl -> getShardFilteredEmployees(shardUrl, filter))
+                .stream()
+                .flatMap(List::stream)
+                .sorted(filter.comparator(Employee::getSalary, Employee::getAge))
+                .limit(filter.getLimit())
+                .toList();
+    }
+
+    @Override
+    public Employee getEmployee(String id) {
+        String shardUrl = shardRouter.shardUrlFor(id);
+        ResponseEntity<Employee> response = getSingleEmployee(shardUrl, shardUrl + "/" + id);
+        if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
+            return response.getBody();
+        }
+        if (response.getStatusCode().is5xxServerError()) {
+            EmployeeSnapshot snapshot = lastKnownGood.get(shardUrl);
+            Employee retained = snapshot != null ? snapshot.findById(id) : null;
+            if (retained != null) {
+                serveStale(snapshot);
+                return retained;
+            }
+            throw unavailable(shardUrl);
+        }
+        return null;
     }
 
+    /**
+     * Creates on the shard owning the body's id, minting one first when the body has none. The server answers a create
+     * whose id already exists with the existing employee, so resending the same body never creates a second one.
+     */
     @Override
-    public Employee getEmployee(String path) {
-        ResponseEntity<Employee> response = getSingleEmployee(path);
-        return (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) ? response.getBody() : null;
+    public Employee createEmployee(EmployeeDTO requestBody) {
+        String shardUrl = assignIds(List.of(requestBody));
+        ResponseEntity<Employee> response = postEmployee(shardUrl, requestBody);
+        if (response.getStatusCode().is5xxServerError()) {
+            throw unavailable(shardUrl);
+        }
+        return (response.getStatusCode() == HttpStatus.CREATED && response.getBody() != null)
+                ? response.getBody()
+                : null;
     }
 
+    /**
+     * Creates all of {@code requestBodies} on one shard in a single upstream call, so the whole batch spends one unit of
+     * the server's request budget. Bodies without an id are given one owned by that shard, written back into the body,
+     * so sending the same bodies again replays the same ids and creates nothing twice. Servers without the batch route
+     * answer {@code 404} or {@code 405}; those are sent one create per employee instead, and a failure partway through
+     * is reported as a {@link PartialBatchCreateException}.
+     *
+     * @return the created employees in request order, or {@code null} when the upstream rejected the batch.
+     */
     @Override
-    public Employee createEmployee(String path, Object requestBody) {
-        ResponseEntity<Employee> response = postEmployee(path, requestBody);
+    public List<Employee> createEmployees(List<EmployeeDTO> requestBodies) {
+        String shardUrl = assignIds(requestBodies);
+        ResponseEntity<List<Employee>> response = postEmployees(shardUrl, requestBodies);
+        if (response.getStatusCode() == HttpStatus.NOT_FOUND
+                || response.getStatusCode() == HttpStatus.METHOD_NOT_ALLOWED) {
+            logger.info("No batch route at: {}, creating {} employees one by one", shardUrl, requestBodies.size());
+            List<Employee> created = new ArrayList<>(requestBodies.size());
+            for (EmployeeDTO requestBody : requestBodies) {
+                try {
+                    created.add(createEmployee(requestBody));
+                } catch (RuntimeException e) {
+                    throw new PartialBatchCreateException(created, e);
+                }
+            }
+            return created;
+        }
+        if (response.getStatusCode().is5xxServerError()) {
+            throw unavailable(shardUrl);
+        }
         return (response.getStatusCode() == HttpStatus.CREATED && response.getBody() != null)
                 ? response.getBody()
                 : null;
     }
 
+    /**
+     * Deletes by id in a single upstream call. Servers without the delete-by-id route answer {@code 405}; those are
+     * sent a delete-by-name, taking the name from the retained snapshot when it holds the employee.
+     */
     @Override
-    public Employee deleteEmployee(String path) {
-        ResponseEntity<Employee> response = deleteSingleEmployee(path);
+    public Employee deleteEmployee(String id) {
+        String shardUrl = shardRouter.shardUrlFor(id);
+        ResponseEntity<Employee> response = deleteSingleEmployee(shardUrl, shardUrl + "/" + id);
+        if (response.getStatusCode() == HttpStatus.METHOD_NOT_ALLOWED) {
+            response = deleteEmployeeByName(shardUrl, id);
+        }
+        if (response.getStatusCode().is5xxServerError()) {
+            throw unavailable(shardUrl);
+        }
         return (response.getStatusCode() == HttpStatus.OK && response.getBody() != null)
                 ? response.getBody()
                 : null;
     }
 
-    private ResponseEntity<List<Employee>> getEmployeeList(String path) {
-        String url = mockEmployeeApiUrl + path;
-        logger.info("GET request to: {}", url);
+    /**
+     * @return the retained full-list snapshot of each shard that has been fetched at least once.
+     */
+    public Map<String, EmployeeSnapshot> getRetainedSnapshots() {
+        return Collections.unmodifiableMap(lastKnownGood);
+    }
+
+    /**
+     * @return the retained copy of {@code id}, or {@code null} when its shard has no snapshot holding it.
+     */
+    public Employee findRetained(String id) {
+        EmployeeSnapshot snapshot = lastKnownGood.get(shardRouter.shardUrlFor(id));
+        return snapshot != null ? snapshot.findById(id) : null;
+    }
+
+    /**
+     * @return the retained copy of {@code id}, or {@code null} when its shard's snapshot is missing, older than
+     *     {@code maxAge} or does not hold it.
+     */
+    public Employee findRetained(String id, Duration maxAge) {
+        EmployeeSnapshot snapshot = lastKnownGood.get(shardRouter.shardUrlFor(id));
+        return snapshot != null && snapshot.age().compareTo(maxAge) <= 0 ? snapshot.findById(id) : null;
+    }
+
+    /**
+     * @return the shard owning the ids of {@code requestBodies}, after giving the bodies without one an id owned by
+     *     the next shard to create on.
+     */
+    private String assignIds(List<EmployeeDTO> requestBodies) {
+        String shardUrl = requestBodies.stream()
+                .map(EmployeeDTO::getId)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .map(shardRouter::shardUrlFor)
+                .orElseGet(shardRouter::shardUrlForCreate);
+        for (EmployeeDTO requestBody : requestBodies) {
+            if (requestBody.getId() == null) {
+                requestBody.setId(shardRouter.newIdFor(shardUrl));
+            } else if (!shardRouter.shardUrlFor(requestBody.getId()).equals(shardUrl)) {
+                throw new IllegalArgumentException("Ids of one batch must be owned by one shard: " + requestBody.getId());
+            }
+        }
+        return shardUrl;
+    }
+
+    private List<Employee> getShardEmployees(String shardUrl) {
+        ResponseEntity<List<Employee>> response = getEmployeeList(shardUrl, shardUrl);
+        if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
+            lastKnownGood.put(shardUrl, new EmployeeSnapshot(response.getBody(), Instant.now()));
+            return response.getBody();
+        }
+        if (response.getStatusCode().is5xxServerError()) {
+            EmployeeSnapshot snapshot = lastKnownGood.get(shardUrl);
+            if (snapshot != null) {
+                return serveStale(snapshot).getEmployees();
+            }
+            throw unavailable(shardUrl);
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Servers without the filter route answer anything but {@code 200} or a {@code 5xx}, usually {@code 404}; for those
+     * the full list is fetched and filtered here instead.
+     */
+    private List<Employee> getShardFilteredEmployees(String shardUrl, EmployeeFilter filter) {
+        ResponseEntity<List<Employee>> response =
+                getEmployeeList(shardUrl, shardUrl + "/filter?" + filter.toQueryString());
+        if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
+            return response.getBody();
+        }
+        if (response.getStatusCode().is5xxServerError()) {
+            EmployeeSnapshot snapshot = lastKnownGood.get(shardUrl);
+            if (snapshot != null) {
+                return filterLocally(serveStale(snapshot).getEmployees(), filter);
+            }
+            throw unavailable(shardUrl);
+        }
+        logger.info("No filter route at: {} ({}), filtering the full list", shardUrl, response.getStatusCode());
+        return filterLocally(getShardEmployees(shardUrl), filter);
+    }
+
+    private static List<Employee> filterLocally(List<Employee> employees, EmployeeFilter filter) {
+        return employees.stream()
+                .filter(employee -> filter.matches(employee.getSalary(), employee.getAge()))
+                .sorted(filter.comparator(Employee::getSalary, Employee::getAge))
+                .limit(filter.getLimit())
+                .toList();
+    }
+
+    private List<Employee> getShardTopEarners(String shardUrl, int limit) {
+        ResponseEntity<List<Employee>> response = getEmployeeList(shardUrl, shardUrl + "/top?limit=" + limit);
+        if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
+            return response.getBody();
+        }
+        if (response.getStatusCode().is5xxServerError()) {
+            EmployeeSnapshot snapshot = lastKnownGood.get(shardUrl);
+            if (snapshot != null) {
+                return serveStale(snapshot).getEmployees().stream()
+                        .sorted(BY_SALARY_DESCENDING)
+                        .limit(limit)
+                        .toList();
+            }
+            throw unavailable(shardUrl);
+        }
+        return Collections.emptyList();
+    }
+
+    private EmployeeSnapshot serveStale(EmployeeSnapshot snapshot) {
+        logger.warn("Upstream unavailable, serving snapshot fetched at {}", snapshot.getFetchedAt());
+        degradedReads.increment();
+        RequestContext.current().markServedStale(snapshot.getFetchedAt());
+        return snapshot;
+    }
 
+    private UpstreamUnavailableException unavailable(String shardUrl) {
+        return new UpstreamUnavailableException(
+                "Mock employee API unavailable at: " + shardUrl,
+                circuitBreakers.forShard(shardUrl).remainingOpenDuration());
+    }
+
+    private <T> T callUpstream(String shardUrl, String url, boolean idempotent, Supplier<T> request) {
+        CircuitBreaker circuitBreaker = circuitBreakers.forShard(shardUrl);
+        CircuitBreaker.Permit permit = circuitBreaker.tryAcquirePermission();
+        if (permit == null) {
+            circuitRejections.increment();
+            throw new UpstreamUnavailableException(
+                    "Circuit open, not calling: " + url, circuitBreaker.remainingOpenDuration());
+        }
         try {
-            ResponseEntity<String> response =
-                    restTemplate.exchange(url, HttpMethod.GET, null, new ParameterizedTypeReference<String>() {});
+            T result = idempotent ? requestExecutor.executeHedged(url, request) : requestExecutor.execute(url, request);
+            circuitBreaker.onSuccess(permit);
+            return result;
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            circuitBreaker.onFailure(permit);
+            throw e;
+        } catch (HttpClientErrorException e) {
+            // The upstream answered; a client error says nothing about its health.
+            circuitBreaker.onSuccess(permit);
+            throw e;
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure(permit);
+            throw e;
+        }
+    }
 
-            logger.info("Raw Response: {}", response.getBody());
+    private ResponseEntity<List<Employee>> getEmployeeList(String shardUrl, String url) {
+        logger.info("GET request to: {}", url);
 
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                EmployeeResponse employeeResponse = objectMapper.readValue(response.getBody(), EmployeeResponse.class);
+        try {
+            ResponseEntity<List<Employee>> response = callUpstream(
+                    shardUrl, url, true, () -> exchange(url, HttpMethod.GET, null, employeeCodec::readEmployeeList));
 
-                return ResponseEntity.ok(employeeResponse.getData());
+            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
+                logger.debug("Received {} employees from: {}", response.getBody().size(), url);
+                return ResponseEntity.ok(response.getBody());
             }
             return ResponseEntity.noContent().build();
 
         } catch (HttpClientErrorException.NotFound e) {
             logger.warn("Not found: {}", url);
             return ResponseEntity.notFound().build();
-        } catch (JsonProcessingException e) {
-            logger.error("Error parsing JSON response from: {}", url, e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        } catch (UpstreamUnavailableException e) {
+            logger.warn(e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
         } catch (RestClientException e) {
             logger.error("Error fetching employees from: {}", url, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
-    private ResponseEntity<Employee> getSingleEmployee(String path) {
-        String url = mockEmployeeApiUrl + path;
+    private ResponseEntity<Employee> getSingleEmployee(String shardUrl, String url) {
         logger.info("GET request to: {}", url);
 
         try {
-            ResponseEntity<String> response =
-                    restTemplate.exchange(url, HttpMethod.GET, null, new ParameterizedTypeReference<String>() {});
-
-            logger.info("Raw Response: {}", response.getBody());
+            ResponseEntity<Employee> response = callUpstream(
+                    shardUrl, url, true, () -> exchange(url, HttpMethod.GET, null, employeeCodec::readEmployee));
 
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                JsonNode rootNode = objectMapper.readTree(response.getBody());
-                JsonNode dataNode = rootNode.get("data");
-
-                if (dataNode != null && dataNode.isObject()) {
-                    Employee employee = objectMapper.treeToValue(dataNode, Employee.class);
-                    return ResponseEntity.ok(employee);
-                }
+                return ResponseEntity.ok(response.getBody());
             }
             return ResponseEntity.noContent().build();
 
         } catch (HttpClientErrorException.NotFound e) {
             logger.warn("Not found: {}", url);
             return ResponseEntity.notFound().build();
-        } catch (JsonProcessingException e) {
-            logger.error("Error parsing JSON response from: {}", url, e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        } catch (UpstreamUnavailableException e) {
+            logger.warn(e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
         } catch (RestClientException e) {
             logger.error("Error fetching employee from: {}", url, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
-    private ResponseEntity<Employee> postEmployee(String path, Object requestBody) {
-        String url = mockEmployeeApiUrl + path;
+    private ResponseEntity<Employee> postEmployee(String url, EmployeeDTO requestBody) {
         logger.info("POST request to: {}", url);
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<Object> requestEntity = new HttpEntity<>(requestBody, headers);
-
         try {
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url, HttpMethod.POST, requestEntity, String.class);
+            byte[] body = employeeCodec.writeEmployeeDto(requestBody);
 
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                ObjectMapper objectMapper = new ObjectMapper();
-                JsonNode rootNode = objectMapper.readTree(response.getBody());
-                JsonNode dataNode = rootNode.path("data");
+            ResponseEntity<Employee> response = callUpstream(
+                    url, url, false, () -> exchange(url, HttpMethod.POST, body, employeeCodec::readEmployee));
 
-                Employee employee = objectMapper.treeToValue(dataNode, Employee.class);
+            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+                Employee employee = response.getBody();
                 logger.info("Created Employee: {}", employee);
 
                 return ResponseEntity.status(HttpStatus.CREATED).body(employee);
             } else {
-                logger.error("Failed to create employee, Response: {}", response);
+                logger.error("Failed to create employee, Response status: {}", response.getStatusCode());
                 return ResponseEntity.status(response.getStatusCode()).build();
             }
+        } catch (UpstreamUnavailableException e) {
+            logger.warn(e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
         } catch (RestClientException e) {
             logger.error("Error posting employee to: {}", url, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        } catch (Exception e) {
-            logger.error("Unexpected error while parsing response", e);
+        } catch (IOException e) {
+            logger.error("Error encoding employee for: {}", url, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
-    private ResponseEntity<Employee> deleteSingleEmployee(String path) {
-        String url = mockEmployeeApiUrl + path;
-        logger.info("DELETE request to: {}", url);
+    private ResponseEntity<List<Employee>> postEmployees(String shardUrl, List<EmployeeDTO> requestBodies) {
+        String url = shardUrl + "/batch";
+        logger.info("POST request to: {} with {} employees", url, requestBodies.size());
 
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            HttpEntity<Void> requestEntity = new HttpEntity<>(headers);
+            byte[] body = employeeCodec.writeEmployeeDtoBatch(requestBodies);
 
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.DELETE, requestEntity, String.class);
+            ResponseEntity<List<Employee>> response = callUpstream(
+                    shardUrl, url, false, () -> exchange(url, HttpMethod.POST, body, employeeCodec::readEmployeeList));
 
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                JsonNode rootNode = objectMapper.readTree(response.getBody());
-                JsonNode dataNode = rootNode.path("data");
+                logger.info("Created {} employees", response.getBody().size());
+                return ResponseEntity.status(HttpStatus.CREATED).body(response.getBody());
+            }
+            logger.error("Failed to create employees, Response status: {}", response.getStatusCode());
+            return ResponseEntity.status(response.getStatusCode()).build();
+
+        } catch (UpstreamUnavailableException e) {
+            logger.warn(e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            logger.warn("Rate limited creating employees at: {}", url);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        } catch (HttpClientErrorException e) {
+            logger.error("Client error creating employees at: {}", url, e);
+            return ResponseEntity.status(e.getStatusCode()).build();
+        } catch (RestClientException e) {
+            logger.error("Error posting employees to: {}", url, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        } catch (IOException e) {
+            logger.error("Error encoding employees for: {}", url, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    private ResponseEntity<Employee> deleteSingleEmployee(String shardUrl, String url) {
+        logger.info("DELETE request to: {}", url);
+
+        try {
+            ResponseEntity<Employee> response = callUpstream(
+                    shardUrl, url, false, () -> exchange(url, HttpMethod.DELETE, null, employeeCodec::readEmployee));
 
-                Employee deletedEmployee = objectMapper.treeToValue(dataNode, Employee.class);
+            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+                Employee deletedEmployee = response.getBody();
                 logger.info("Deleted Employee: {}", deletedEmployee);
 
                 return ResponseEntity.ok(deletedEmployee);
             }
             return ResponseEntity.noContent().build();
 
+        } catch (UpstreamUnavailableException e) {
+            logger.warn(e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        } catch (HttpClientErrorException.NotFound e) {
+            logger.warn("Not found: {}", url);
+            return ResponseEntity.notFound().build();
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            logger.warn("Rate limited deleting employee at: {}", url);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
         } catch (HttpClientErrorException e) {
             logger.error("Client error deleting employee at: {}", url, e);
             return ResponseEntity.status(e.getStatusCode()).build();
-        } catch (JsonProcessingException e) {
-            logger.error("Error parsing JSON response from DELETE: {}", url, e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         } catch (RestClientException e) {
             logger.error("Error deleting employee at: {}", url, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+
+    private ResponseEntity<Employee> deleteEmployeeByName(String shardUrl, String id) {
+        Employee employee = findRetained(id);
+        if (employee == null) {
+            logger.info("No retained entry for: {}, looking up its name upstream", id);
+            employee = getEmployee(id);
+            if (employee == null) {
+                return ResponseEntity.notFound().build();
+            }
+        }
+
+        String url = shardUrl;
+        Map<String, String> body = Map.of("name", employee.getName());
+        logger.info("DELETE request by name to: {}", url);
+
+        try {
+            ResponseEntity<Boolean> response = callUpstream(
+                    shardUrl,
+                    url,
+                    false,
+                    () -> exchange(url, HttpMethod.DELETE, body, employeeCodec::readBooleanData));
+
+            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+                return response.getBody() ? ResponseEntity.ok(employee) : ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.noContent().build();
+
+        } catch (UpstreamUnavailableException e) {
+            logger.warn(e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        } catch (HttpClientErrorException e) {
+            logger.error("Client error deleting employee by name at: {}", url, e);
+            return ResponseEntity.status(e.getStatusCode()).build();
+        } catch (RestClientException e) {
+            logger.error("Error deleting employee by name at: {}", url, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Sends {@code body} as JSON, asks for the configured wire format and decodes the response while it streams in.
+     * Malformed payloads surface as a {@link RestClientException}, like any other failed exchange.
+     */
+    private <T> ResponseEntity<T> exchange(String url, HttpMethod method, Object body, Decoder<T> decoder) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(employeeCodec.acceptableMediaTypes());
+        if (body != null) {
+            headers.setContentType(MediaType.APPLICATION_JSON);
+        }
+        RequestCallback requestCallback = restTemplate.httpEntityCallback(new HttpEntity<>(body, headers));
+        UpstreamCallEvent call = UpstreamCallEvent.start(method.name(), url);
+        int status = 0;
+        int resultSize = 0;
+        try {
+            ResponseEntity<T> response = restTemplate.execute(url, method, requestCallback, upstreamResponse -> {
+                MediaType contentType = upstreamResponse.getHeaders().getContentType();
+                DecodeEvent decode = DecodeEvent.start(String.valueOf(contentType));
+                try {
+                    T decoded = decoder.decode(upstreamResponse.getBody(), contentType);
+                    decode.finish(resultSize(decoded));
+                    return ResponseEntity.status(upstreamResponse.getStatusCode()).body(decoded);
+                } catch (JsonProcessingException e) {
+                    throw new RestClientException("Malformed response from: " + url, e);
+                }
+            });
+            status = response.getStatusCode().value();
+            resultSize = resultSize(response.getBody());
+            return response;
+        } catch (RestClientResponseException e) {
+            status = e.getStatusCode().value();
+            throw e;
+        } finally {
+            call.finish(status, resultSize);
+        }
+    }
+
+    private static int resultSize(Object body) {
+        if (body instanceof List<?> employees) {
+            return employees.size();
+        }
+        return body instanceof Employee ? 1 : 0;
+    }
+
+    @FunctionalInterface
+    private interface Decoder<T> {
+        T decode(InputStream body, MediaType contentType) throws IOException;
+    }
 }
@@ -0,0 +1,155 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.common.compact.CompactEmployee;
+import com.reliaquest.common.compact.CompactEmployeeCodec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.UUID;
+
+/**
+ * Immutable copy of the last full employee list successfully fetched from upstream, kept to serve reads while the
+ * upstream is unavailable. Employees are retained as {@link CompactEmployee}s and materialized again only when read,
+ * so a large snapshot costs a fraction of the decoded list. Ids are found through an open-addressing table of row
+ * numbers. The rare employee whose id is not a canonical UUID is retained as is.
+ */
+public class EmployeeSnapshot {
+
+    /*
+     * The suffix of every email the mock employee API generates; other emails are retained in full.
+     */
+    private static final String EMAIL_SUFFIX = "@company.com";
+
+    // One per snapshot, so that titles seen only by earlier snapshots are released with them.
+    private final CompactEmployeeCodec codec = new CompactEmployeeCodec(EMAIL_SUFFIX);
+    private final CompactEmployee[] rows;
+    private final int[] rowsById;
+    private final Map<Integer, Employee> irregularRows = new HashMap<>();
+    private final Map<String, Employee> irregularById = new HashMap<>();
+    private final List<Employee> employees;
+    private final Instant fetchedAt;
+
+    public EmployeeSnapshot(List<Employee> employees, Instant fetchedAt) {
+        this.rows = new CompactEmployee[employees.size()];
+        this.rowsById = new int[Math.max(2, Integer.highestOneBit(Math.max(1, employees.size())) << 2)];
+        for (int row = 0; row < rows.length; row++) {
+            Employee employee = employees.get(row);
+            UUID id = canonicalUuid(employee.getId());
+            if (id == null) {
+                irregularRows.put(row, employee);
+                irregularById.put(employee.getId(), employee);
+                continue;
+            }
+            rows[row] = codec.encode(
+                    id,
+                    employee.getName(),
+                    employee.getSalary(),
+                    employee.getAge(),
+                    employee.getTitle(),
+                    employee.getEmail());
+            index(row);
+        }
+        this.employees = new MaterializingList();
+        this.fetchedAt = fetchedAt;
+    }
+
+    /**
+     * @return every employee, materialized as each element is read.
+     */
+    public List<Employee> getEmployees() {
+        return employees;
+    }
+
+    public Employee findById(String id) {
+        UUID uuid = canonicalUuid(id);
+        if (uuid == null) {
+            return irregularById.get(id);
+        }
+        int mask = rowsById.length - 1;
+        for (int slot = hash(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()) & mask;
+                rowsById[slot] != 0;
+                slot = (slot + 1) & mask) {
+            CompactEmployee employee = rows[rowsById[slot] - 1];
+            if (employee.hasId(uuid)) {
+                return materialize(employee);
+            }
+        }
+        return null;
+    }
+
+    public Instant getFetchedAt() {
+        return fetchedAt;
+    }
+
+    public Duration age() {
+        return Duration.between(fetchedAt, Instant.now());
+    }
+
+    /*
+     * Later rows win over earlier ones with the same id, as they did when ids were kept in a map.
+     */
+    private void index(int row) {
+        CompactEmployee employee = rows[row];
+        int mask = rowsById.length - 1;
+        int slot = hash(employee.idMostSignificantBits(), employee.idLeastSignificantBits()) & mask;
+        while (rowsById[slot] != 0) {
+            CompactEmployee occupant = rows[rowsById[slot] - 1];
+            if (occupant.idMostSignificantBits() == employee.idMostSignificantBits()
+                    && occupant.idLeastSignificantBits() == employee.idLeastSignificantBits()) {
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+        rowsById[slot] = row + 1;
+    }
+
+    private static int hash(long mostSignificantBits, long leastSignificantBits) {
+        long hash = (mostSignificantBits ^ leastSignificantBits) * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /**
+     * @return {@code id} as a UUID when that is lossless, otherwise {@code null}.
+     */
+    private static UUID canonicalUuid(String id) {
+        if (id == null || id.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(id);
+            return uuid.toString().equals(id) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private Employee materialize(CompactEmployee compact) {
+        Employee employee = new Employee();
+        employee.setId(compact.id().toString());
+        employee.setName(codec.name(compact));
+        employee.setSalary(compact.salary());
+        employee.setAge(compact.age());
+        employee.setTitle(codec.title(compact));
+        employee.setEmail(codec.email(compact));
+        return employee;
+    }
+
+    private final class MaterializingList extends AbstractList<Employee> implements RandomAccess {
+
+        @Override
+        public Employee get(int index) {
+            CompactEmployee employee = rows[index];
+            return employee != null ? materialize(employee) : irregularRows.get(index);
+        }
+
+        @Override
+        public int size() {
+            return rows.length;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.reliaquest.api.client;
+
+/**
+ * Token bucket limiting hedged requests to a fraction of primary traffic, so hedging never multiplies load on the
+ * rate-limited upstream. Every primary request deposits {@code ratio} tokens and every hedge spends one.
+ */
+class HedgeBudget {
+
+    private final double ratio;
+    private final double maxTokens;
+    private double tokens;
+
+    HedgeBudget(double ratio, double maxTokens) {
+        this.ratio = ratio;
+        this.maxTokens = maxTokens;
+    }
+
+    synchronized void onRequest() {
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    synchronized boolean tryAcquire() {
+        if (tokens < 1.0) {
+            return false;
+        }
+        tokens -= 1.0;
+        return true;
+    }
+}
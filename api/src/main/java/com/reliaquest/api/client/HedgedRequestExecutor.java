@@ -0,0 +1,288 @@
+package com.reliaquest.api.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Runs upstream calls within the deadline of the current {@link RequestContext}, each attempt also bounded by
+ * {@code mock.employee.api.read-timeout}. Idempotent reads may additionally be hedged: once the primary attempt
+ * outlives the configured latency percentile, a second attempt is sent (budget permitting) and whichever answers first
+ * wins. Attempts that lose a race or run out of time are cancelled by interrupting their thread, which aborts the
+ * in-flight exchange, so they give back their thread and connection at once.
+ */
+@Component
+public class HedgedRequestExecutor {
+    private static final Logger logger = LoggerFactory.getLogger(HedgedRequestExecutor.class);
+
+    private final ExecutorService executor;
+    private final ExecutorService scatterExecutor;
+    private final LatencyTracker latencyTracker = new LatencyTracker(256, 20);
+    private final HedgeBudget hedgeBudget;
+    private final boolean hedgingEnabled;
+    private final double hedgePercentile;
+    private final long minHedgeDelayNanos;
+    private final long attemptTimeoutNanos;
+
+    private final Counter hedgesSent;
+    private final Counter hedgeWins;
+    private final Counter hedgeLosses;
+    private final Counter hedgesSuppressed;
+
+    public HedgedRequestExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${api.hedging.enabled:false}") boolean hedgingEnabled,
+            @Value("${api.hedging.percentile:0.95}") double hedgePercentile,
+            @Value("${api.hedging.min-delay:50ms}") Duration minHedgeDelay,
+            @Value("${api.hedging.budget-ratio:0.1}") double budgetRatio,
+            @Value("${api.hedging.max-budget:2}") double maxBudget,
+            @Value("${mock.employee.api.read-timeout:5s}") Duration attemptTimeout) {
+        this.hedgingEnabled = hedgingEnabled;
+        this.hedgePercentile = hedgePercentile;
+        this.minHedgeDelayNanos = minHedgeDelay.toNanos();
+        this.attemptTimeoutNanos = attemptTimeout.toNanos();
+        this.hedgeBudget = new HedgeBudget(budgetRatio, maxBudget);
+        this.executor = newExecutor("upstream-request");
+        // Scatter branches wait on attempts; on their own pool they can never take the threads those attempts need.
+        this.scatterExecutor = newExecutor("upstream-scatter");
+        this.hedgesSent = meterRegistry.counter("employee.upstream.hedge", "outcome", "sent");
+        this.hedgeWins = meterRegistry.counter("employee.upstream.hedge", "outcome", "win");
+        this.hedgeLosses = meterRegistry.counter("employee.upstream.hedge", "outcome", "loss");
+        this.hedgesSuppressed = meterRegistry.counter("employee.upstream.hedge", "outcome", "suppressed");
+    }
+
+    /**
+     * Executes a non-idempotent call once, bounded by the current request deadline.
+     */
+    public <T> T execute(String url, Supplier<T> request) {
+        RequestContext context = RequestContext.current();
+        context.checkDeadline(url);
+        return await(submit(request), context, url);
+    }
+
+    /**
+     * Executes an idempotent call, hedging it when the primary attempt is slower than usual.
+     */
+    public <T> T executeHedged(String url, Supplier<T> request) {
+        RequestContext context = RequestContext.current();
+        context.checkDeadline(url);
+        hedgeBudget.onRequest();
+
+        CompletableFuture<T> primary = submit(request);
+        if (!hedgingEnabled) {
+            return await(primary, context, url);
+        }
+
+        long hedgeDelayNanos = Math.max(minHedgeDelayNanos, latencyTracker.percentile(hedgePercentile));
+        if (hedgeDelayNanos >= context.remainingNanos()) {
+            return await(primary, context, url);
+        }
+        try {
+            return primary.get(hedgeDelayNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // Primary is in the tail; fall through and consider a hedge.
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Interrupted waiting for: " + url);
+        }
+
+        if (!hedgeBudget.tryAcquire()) {
+            hedgesSuppressed.increment();
+            return await(primary, context, url);
+        }
+
+        CompletableFuture<T> hedge;
+        try {
+            hedge = submit(request);
+        } catch (ResourceAccessException e) {
+            return await(primary, context, url);
+        }
+        hedgesSent.increment();
+        logger.debug("Hedging request to: {} after {} ms", url, TimeUnit.NANOSECONDS.toMillis(hedgeDelayNanos));
+        return await(race(primary, hedge), context, url);
+    }
+
+    /**
+     * Applies {@code call} to every key in parallel, within the current request deadline, and returns the results in
+     * key order. The first key is called on the caller's thread. The first failure is rethrown, and the calls still
+     * running are cancelled.
+     */
+    public <K, T> List<T> scatter(List<K> keys, Function<K, T> call) {
+        if (keys.size() == 1) {
+            return List.of(call.apply(keys.get(0)));
+        }
+        RequestContext context = RequestContext.current();
+        List<CompletableFuture<T>> futures = new ArrayList<>(keys.size() - 1);
+        try {
+            for (K key : keys.subList(1, keys.size())) {
+                futures.add(fork(scatterExecutor, () -> context.callWithin(() -> call.apply(key))));
+            }
+            List<T> results = new ArrayList<>(keys.size());
+            results.add(call.apply(keys.get(0)));
+            for (int i = 0; i < futures.size(); i++) {
+                String key = String.valueOf(keys.get(i + 1));
+                String timeoutMessage = "Deadline exceeded waiting for: " + key;
+                results.add(await(futures.get(i), context.remainingNanos(), timeoutMessage, key));
+            }
+            return results;
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * @return a future completed by whichever attempt succeeds first, or by the second failure. Once it completes, or
+     *     is cancelled, both attempts are cancelled.
+     */
+    private <T> CompletableFuture<T> race(CompletableFuture<T> primary, CompletableFuture<T> hedge) {
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        primary.whenComplete((result, error) -> {
+            if (error == null) {
+                if (winner.complete(result)) {
+                    hedgeLosses.increment();
+                }
+            } else if (failures.incrementAndGet() == 2) {
+                winner.completeExceptionally(error);
+            }
+        });
+        hedge.whenComplete((result, error) -> {
+            if (error == null) {
+                if (winner.complete(result)) {
+                    hedgeWins.increment();
+                }
+            } else if (failures.incrementAndGet() == 2) {
+                winner.completeExceptionally(error);
+            }
+        });
+        winner.whenComplete((result, error) -> {
+            primary.cancel(true);
+            hedge.cancel(true);
+        });
+        return winner;
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> request) {
+        return fork(executor, () -> {
+            long start = System.nanoTime();
+            T result = request.get();
+            latencyTracker.record(System.nanoTime() - start);
+            return result;
+        });
+    }
+
+    private static <T> CompletableFuture<T> fork(ExecutorService executor, Supplier<T> task) {
+        CancellableFuture<T> future = new CancellableFuture<>();
+        try {
+            future.setTask(executor.submit(() -> {
+                try {
+                    future.complete(task.get());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            throw new ResourceAccessException("Too many concurrent upstream requests");
+        }
+        return future;
+    }
+
+    /**
+     * Waits for an attempt, at most until the request deadline or the attempt timeout, cancelling it when either
+     * passes first.
+     */
+    private <T> T await(CompletableFuture<T> future, RequestContext context, String url) {
+        long remainingNanos = context.remainingNanos();
+        if (remainingNanos <= attemptTimeoutNanos) {
+            return await(future, remainingNanos, "Deadline exceeded waiting for: " + url, url);
+        }
+        return await(future, attemptTimeoutNanos, "Read timed out waiting for: " + url, url);
+    }
+
+    private static <T> T await(CompletableFuture<T> future, long timeoutNanos, String timeoutMessage, String url) {
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ResourceAccessException(timeoutMessage);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Interrupted waiting for: " + url);
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new RestClientException("Upstream request failed", cause);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scatterExecutor.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    private static ExecutorService newExecutor(String threadName) {
+        return new ThreadPoolExecutor(0, 64, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * A future whose cancellation interrupts the thread running its task. {@link CompletableFuture#cancel} alone
+     * only completes the future and leaves the task running.
+     */
+    private static final class CancellableFuture<T> extends CompletableFuture<T> {
+
+        private volatile Future<?> task;
+
+        void setTask(Future<?> task) {
+            this.task = task;
+            if (isCancelled()) {
+                task.cancel(true);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            Future<?> running = task;
+            if (cancelled && running != null) {
+                running.cancel(true);
+            }
+            return cancelled;
+        }
+    }
+}
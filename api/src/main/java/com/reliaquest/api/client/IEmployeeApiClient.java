@@ -1,15 +1,23 @@
 package com.reliaquest.api.client;
 
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeDTO;
+import com.reliaquest.common.filter.EmployeeFilter;
 import java.util.List;
 
 public interface IEmployeeApiClient {
 
-    List<Employee> getEmployees(String path);
+    List<Employee> getEmployees();
 
-    Employee getEmployee(String path);
+    List<Employee> getTopEarningEmployees(int limit);
 
-    Employee createEmployee(String path, Object requestBody);
+    List<Employee> getEmployeesByFilter(EmployeeFilter filter);
 
-    Employee deleteEmployee(String path);
+    Employee getEmployee(String id);
+
+    Employee createEmployee(EmployeeDTO requestBody);
+
+    List<Employee> createEmployees(List<EmployeeDTO> requestBodies);
+
+    Employee deleteEmployee(String id);
 }
@@ -0,0 +1,11 @@
+package com.reliaquest.api.client;
+
+/**
+ * Signals an employee id that is not a UUID, which no shard can own.
+ */
+public class InvalidEmployeeIdException extends IllegalArgumentException {
+
+    public InvalidEmployeeIdException(String id) {
+        super("Invalid employee id: " + id);
+    }
+}
@@ -0,0 +1,41 @@
+package com.reliaquest.api.client;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size ring of recent upstream latencies used to derive the hedging threshold.
+ */
+class LatencyTracker {
+
+    private final long[] samples;
+    private final int minSamples;
+    private int next;
+    private int count;
+
+    LatencyTracker(int capacity, int minSamples) {
+        this.samples = new long[capacity];
+        this.minSamples = minSamples;
+    }
+
+    synchronized void record(long latencyNanos) {
+        samples[next] = latencyNanos;
+        next = (next + 1) % samples.length;
+        count = Math.min(count + 1, samples.length);
+    }
+
+    /**
+     * @return the latency at the given percentile, or {@link Long#MAX_VALUE} until enough samples have been seen.
+     */
+    long percentile(double percentile) {
+        long[] snapshot;
+        synchronized (this) {
+            if (count < minSamples) {
+                return Long.MAX_VALUE;
+            }
+            snapshot = Arrays.copyOf(samples, count);
+        }
+        Arrays.sort(snapshot);
+        int index = (int) Math.ceil(percentile * snapshot.length) - 1;
+        return snapshot[Math.max(0, Math.min(index, snapshot.length - 1))];
+    }
+}
@@ -0,0 +1,28 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Thrown when a batch sent one create at a time fails partway. The creates before the failed one went through; the
+ * failed one may or may not have been committed; the ones after it were never sent.
+ */
+public class PartialBatchCreateException extends RuntimeException {
+
+    private final List<Employee> created;
+
+    public PartialBatchCreateException(List<Employee> created, RuntimeException cause) {
+        super("Batch create failed after " + created.size() + " employees: " + cause.getMessage(), cause);
+        this.created = Collections.unmodifiableList(new ArrayList<>(created));
+    }
+
+    /**
+     * @return the results of the creates before the failed one, in request order; {@code null} where the upstream
+     *     rejected the employee.
+     */
+    public List<Employee> getCreated() {
+        return created;
+    }
+}
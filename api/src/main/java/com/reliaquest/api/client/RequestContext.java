@@ -0,0 +1,92 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Per-request state carried from the incoming web request down to upstream calls. Bound to the request thread by
+ * {@link com.reliaquest.api.web.RequestDeadlineInterceptor}; calls made outside a web request see {@link #NONE}, which
+ * has no deadline.
+ */
+public final class RequestContext {
+
+    private static final ThreadLocal<RequestContext> CURRENT = new ThreadLocal<>();
+
+    private static final RequestContext NONE = new RequestContext(Long.MAX_VALUE);
+
+    private final long deadlineNanos;
+
+    private volatile Instant servedStaleAsOf;
+
+    private RequestContext(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    public static RequestContext current() {
+        RequestContext context = CURRENT.get();
+        return context != null ? context : NONE;
+    }
+
+    public static void begin(Duration timeout) {
+        CURRENT.set(new RequestContext(System.nanoTime() + timeout.toNanos()));
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public boolean hasDeadline() {
+        return deadlineNanos != Long.MAX_VALUE;
+    }
+
+    public long remainingNanos() {
+        return hasDeadline() ? deadlineNanos - System.nanoTime() : Long.MAX_VALUE;
+    }
+
+    public void checkDeadline(String url) {
+        if (remainingNanos() <= 0) {
+            throw new ResourceAccessException("Deadline exceeded before request to: " + url);
+        }
+    }
+
+    /**
+     * Records that part of the response was served from retained data fetched at {@code asOf}.
+     */
+    public synchronized void markServedStale(Instant asOf) {
+        if (this == NONE) {
+            return;
+        }
+        if (servedStaleAsOf == null || asOf.isBefore(servedStaleAsOf)) {
+            servedStaleAsOf = asOf;
+        }
+    }
+
+    public Optional<Instant> getServedStaleAsOf() {
+        return Optional.ofNullable(servedStaleAsOf);
+    }
+
+    /**
+     * Runs {@code task} with this context bound to the calling thread, so work forked onto other threads keeps the
+     * request's deadline.
+     */
+    public <T> T callWithin(Supplier<T> task) {
+        RequestContext previous = CURRENT.get();
+        if (this == NONE) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(this);
+        }
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
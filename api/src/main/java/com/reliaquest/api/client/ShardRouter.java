@@ -0,0 +1,75 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.common.shard.ConsistentHashRing;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps employee ids to the mock server instance that owns them. Without {@code mock.employee.api.shard-urls} there is
+ * a single shard at {@code mock.employee.api.url}. Shard {@code i} of the ring is served by the {@code i}-th url.
+ */
+@Component
+public class ShardRouter {
+    private static final Logger logger = LoggerFactory.getLogger(ShardRouter.class);
+
+    private final List<String> shardUrls;
+    private final ConsistentHashRing ring;
+    private final AtomicInteger nextCreateShard = new AtomicInteger();
+
+    public ShardRouter(
+            @Value("${mock.employee.api.url}") String mockEmployeeApiUrl,
+            @Value("${mock.employee.api.shard-urls:}") List<String> shardUrls) {
+        List<String> configured =
+                shardUrls.stream().map(String::trim).filter(url -> !url.isEmpty()).toList();
+        this.shardUrls = configured.isEmpty() ? List.of(mockEmployeeApiUrl) : configured;
+        this.ring = new ConsistentHashRing(this.shardUrls.size());
+        if (this.shardUrls.size() > 1) {
+            logger.info("Routing to {} mock employee shards: {}", this.shardUrls.size(), this.shardUrls);
+        }
+    }
+
+    public List<String> allShardUrls() {
+        return shardUrls;
+    }
+
+    /**
+     * @return the base url of the shard owning {@code id}.
+     * @throws InvalidEmployeeIdException when {@code id} is not a UUID, so no shard can own it.
+     */
+    public String shardUrlFor(String id) {
+        final UUID uuid;
+        try {
+            uuid = UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEmployeeIdException(id);
+        }
+        return shardUrls.get(ring.shardFor(uuid));
+    }
+
+    /**
+     * @return the shard to create the next batch of employees on; batches are spread round-robin.
+     */
+    public String shardUrlForCreate() {
+        return shardUrls.get(Math.floorMod(nextCreateShard.getAndIncrement(), shardUrls.size()));
+    }
+
+    /**
+     * @return a random id owned by the shard at {@code shardUrl}; takes as many attempts as there are shards on average.
+     */
+    public String newIdFor(String shardUrl) {
+        int shard = shardUrls.indexOf(shardUrl);
+        if (shard < 0) {
+            throw new IllegalArgumentException("Unknown shard: " + shardUrl);
+        }
+        UUID id;
+        do {
+            id = UUID.randomUUID();
+        } while (ring.shardFor(id) != shard);
+        return id.toString();
+    }
+}
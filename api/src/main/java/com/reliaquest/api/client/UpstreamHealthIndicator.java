@@ -0,0 +1,39 @@
+package com.reliaquest.api.client;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports the circuit state of each upstream shard. The api keeps serving, possibly from retained data, while a circuit
+ * is open, so this stays {@code UP} and only carries details.
+ */
+@Component
+public class UpstreamHealthIndicator implements HealthIndicator {
+
+    private final CircuitBreakers circuitBreakers;
+    private final EmployeeApiClient employeeApiClient;
+
+    public UpstreamHealthIndicator(CircuitBreakers circuitBreakers, EmployeeApiClient employeeApiClient) {
+        this.circuitBreakers = circuitBreakers;
+        this.employeeApiClient = employeeApiClient;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = Health.up();
+        circuitBreakers.all().forEach((shardUrl, circuitBreaker) -> {
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("circuit", circuitBreaker.getState());
+            details.put("failureRate", circuitBreaker.failureRate());
+            EmployeeSnapshot snapshot = employeeApiClient.getRetainedSnapshots().get(shardUrl);
+            if (snapshot != null) {
+                details.put("snapshotFetchedAt", snapshot.getFetchedAt().toString());
+            }
+            builder.withDetail(shardUrl, details);
+        });
+        return builder.build();
+    }
+}
@@ -0,0 +1,20 @@
+package com.reliaquest.api.client;
+
+import java.time.Duration;
+
+/**
+ * Thrown when the mock employee API cannot answer and no retained data can stand in for it.
+ */
+public class UpstreamUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public UpstreamUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
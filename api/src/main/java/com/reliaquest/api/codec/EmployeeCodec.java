@@ -0,0 +1,186 @@
+package com.reliaquest.api.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactoryBuilder;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeDTO;
+import com.reliaquest.api.model.EmployeeEnvelope;
+import com.reliaquest.api.model.EmployeeResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single place where employee payloads are encoded and decoded. Readers and writers are built once from a copy of
+ * Spring's shared {@link ObjectMapper} with {@link EmployeeDeserializer} registered; they are immutable and
+ * thread-safe, so no per-call mapper or type resolution is needed. The shared mapper itself binds {@link Employee}
+ * generically.
+ *
+ * <p>Upstream responses may arrive as JSON or, when {@link WireFormat#SMILE} is configured, as Smile. The parser is
+ * chosen from the response {@code Content-Type}; the same readers bind either.
+ */
+@Component
+public class EmployeeCodec {
+
+    public static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    private final JsonFactory jsonFactory;
+    private final SmileFactory smileFactory;
+    private final WireFormat wireFormat;
+    private final ObjectReader employeeReader;
+    private final ObjectReader employeeEnvelopeReader;
+    private final ObjectReader employeeDtoReader;
+    private final ObjectWriter employeeDtoWriter;
+    private final ObjectWriter employeeDtoBatchWriter;
+
+    public EmployeeCodec(
+            ObjectMapper objectMapper, @Value("${mock.employee.api.wire-format:json}") WireFormat wireFormat) {
+        ObjectMapper mapper = objectMapper
+                .copy()
+                .registerModule(new SimpleModule().addDeserializer(Employee.class, new EmployeeDeserializer()));
+        this.jsonFactory = mapper.getFactory();
+        this.smileFactory = smileFactoryLike(jsonFactory);
+        this.wireFormat = wireFormat;
+        ObjectReader reader = mapper.reader().without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.employeeReader = reader.forType(Employee.class);
+        this.employeeEnvelopeReader = reader.forType(EmployeeEnvelope.class);
+        this.employeeDtoReader = reader.forType(EmployeeDTO.class);
+        this.employeeDtoWriter = mapper.writerFor(EmployeeDTO.class);
+        this.employeeDtoBatchWriter = mapper.writerFor(new TypeReference<Map<String, List<EmployeeDTO>>>() {});
+    }
+
+    /**
+     * @return the media types to send as {@code Accept} to the mock employee API, most preferred first.
+     */
+    public List<MediaType> acceptableMediaTypes() {
+        return wireFormat.getAcceptableMediaTypes();
+    }
+
+    /**
+     * Streams the {@code data} list of an upstream list response, binding one record at a time as it is read off the
+     * wire rather than buffering the whole body first.
+     *
+     * @return the employees, or {@code null} when the body is empty or carries no {@code data}.
+     */
+    public List<Employee> readEmployeeList(InputStream body, MediaType contentType) throws IOException {
+        try (JsonParser parser = parser(body, contentType)) {
+            if (parser.nextToken() == null) {
+                return null;
+            }
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                throw MismatchedInputException.from(parser, EmployeeResponse.class, "Expected a response envelope");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("data".equals(field)) {
+                    return value == JsonToken.VALUE_NULL ? null : readEmployees(parser);
+                }
+                parser.skipChildren();
+            }
+            return null;
+        }
+    }
+
+    /**
+     * @return the {@code data} record of an upstream single-employee response, or {@code null} when absent.
+     */
+    public Employee readEmployee(InputStream body, MediaType contentType) throws IOException {
+        try (JsonParser parser = parser(body, contentType)) {
+            if (parser.nextToken() == null) {
+                return null;
+            }
+            EmployeeEnvelope envelope = employeeEnvelopeReader.readValue(parser);
+            return envelope != null ? envelope.getData() : null;
+        }
+    }
+
+    /**
+     * @return the boolean {@code data} of an upstream response, or {@code false} when the body is empty or carries no
+     *     {@code data}. Other fields are skipped without being read into a tree.
+     */
+    public boolean readBooleanData(InputStream body, MediaType contentType) throws IOException {
+        try (JsonParser parser = parser(body, contentType)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return false;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("data".equals(field)) {
+                    return parser.getValueAsBoolean();
+                }
+                parser.skipChildren();
+            }
+            return false;
+        }
+    }
+
+    public EmployeeDTO readEmployeeDto(String json) throws JsonProcessingException {
+        return employeeDtoReader.readValue(json);
+    }
+
+    public byte[] writeEmployeeDto(EmployeeDTO employee) throws JsonProcessingException {
+        return employeeDtoWriter.writeValueAsBytes(employee);
+    }
+
+    /**
+     * @return the body of an upstream batch create: {@code {"employees": [...]}}.
+     */
+    public byte[] writeEmployeeDtoBatch(List<EmployeeDTO> employees) throws JsonProcessingException {
+        return employeeDtoBatchWriter.writeValueAsBytes(Map.of("employees", employees));
+    }
+
+    private List<Employee> readEmployees(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw MismatchedInputException.from(parser, List.class, "Expected an array of employees");
+        }
+        List<Employee> employees = new ArrayList<>();
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (token == null) {
+                throw MismatchedInputException.from(parser, List.class, "Employee list ended early");
+            }
+            employees.add(employeeReader.readValue(parser));
+        }
+        return employees;
+    }
+
+    /**
+     * @return a Smile factory with the factory features, stream read features and read constraints of {@code json}, so
+     *     that a response is parsed under the same limits whichever format it arrives in.
+     */
+    private static SmileFactory smileFactoryLike(JsonFactory json) {
+        SmileFactoryBuilder builder = SmileFactory.builder().streamReadConstraints(json.streamReadConstraints());
+        for (JsonFactory.Feature feature : JsonFactory.Feature.values()) {
+            builder.configure(feature, json.isEnabled(feature));
+        }
+        for (StreamReadFeature feature : StreamReadFeature.values()) {
+            builder.configure(feature, json.isEnabled(feature));
+        }
+        return builder.build();
+    }
+
+    private JsonParser parser(InputStream body, MediaType contentType) throws IOException {
+        if (contentType != null && SMILE.isCompatibleWith(contentType)) {
+            return smileFactory.createParser(body);
+        }
+        return jsonFactory.createParser(body);
+    }
+}
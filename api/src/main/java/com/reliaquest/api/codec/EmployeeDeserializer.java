@@ -0,0 +1,97 @@
+package com.reliaquest.api.codec;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Streaming deserializer for the upstream {@code employee_*} record layout. Reads fields straight off the parser into
+ * the bean, without the property lookup and buffering of the generic bean deserializer.
+ */
+public class EmployeeDeserializer extends StdDeserializer<Employee> {
+
+    public EmployeeDeserializer() {
+        super(Employee.class);
+    }
+
+    @Override
+    public Employee deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        String field;
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+            field = parser.nextFieldName();
+        } else if (parser.currentToken() == JsonToken.FIELD_NAME) {
+            field = parser.currentName();
+        } else {
+            return (Employee) context.handleUnexpectedToken(Employee.class, parser);
+        }
+
+        Employee employee = new Employee();
+        for (; field != null; field = parser.nextFieldName()) {
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "id" -> employee.setId(id(parser, token, context));
+                case "employee_name" -> employee.setName(text(parser, token, context));
+                case "employee_salary" -> employee.setSalary(number(parser, token, context));
+                case "employee_age" -> employee.setAge(number(parser, token, context));
+                case "employee_title" -> employee.setTitle(text(parser, token, context));
+                case "employee_email" -> employee.setEmail(text(parser, token, context));
+                default -> parser.skipChildren();
+            }
+        }
+        return employee;
+    }
+
+    private static String id(JsonParser parser, JsonToken token, DeserializationContext context) throws IOException {
+        if (token != JsonToken.VALUE_EMBEDDED_OBJECT) {
+            return text(parser, token, context);
+        }
+        // Binary formats such as Smile carry a UUID as its 16 raw bytes.
+        byte[] bytes = parser.getBinaryValue();
+        if (bytes.length != 16) {
+            return context.reportInputMismatch(
+                    Employee.class, "Expected a 16-byte binary id, got %d bytes", bytes.length);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+
+    /**
+     * Accepts an integer, a string holding one, or null as {@code 0}, as the generic bean deserializer did.
+     */
+    private static int number(JsonParser parser, JsonToken token, DeserializationContext context) throws IOException {
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getIntValue();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return 0;
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            String value = parser.getText().trim();
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                return (Integer) context.handleWeirdStringValue(int.class, value, "not a valid int value");
+            }
+        }
+        return (Integer) context.handleUnexpectedToken(int.class, parser);
+    }
+
+    /**
+     * Accepts any scalar as its text, and null. Objects and arrays are rejected rather than skipped, so that their
+     * fields are never read as the employee's.
+     */
+    private static String text(JsonParser parser, JsonToken token, DeserializationContext context) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            return (String) context.handleUnexpectedToken(String.class, parser);
+        }
+        return parser.getValueAsString();
+    }
+}
@@ -0,0 +1,23 @@
+package com.reliaquest.api.codec;
+
+import java.util.List;
+import org.springframework.http.MediaType;
+
+/**
+ * Encoding requested from the mock employee API. Responses are always decoded according to their
+ * {@code Content-Type}, so a server that does not speak the preferred format can still answer in JSON.
+ */
+public enum WireFormat {
+    JSON(List.of(MediaType.APPLICATION_JSON)),
+    SMILE(List.of(EmployeeCodec.SMILE, MediaType.parseMediaType("application/json;q=0.5")));
+
+    private final List<MediaType> acceptableMediaTypes;
+
+    WireFormat(List<MediaType> acceptableMediaTypes) {
+        this.acceptableMediaTypes = acceptableMediaTypes;
+    }
+
+    public List<MediaType> getAcceptableMediaTypes() {
+        return acceptableMediaTypes;
+    }
+}
@@ -0,0 +1,36 @@
+package com.reliaquest.api.configuration;
+
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.client.EmployeeApiClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "api.cache.by-id.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheConfig {
+
+    @Bean
+    public EmployeeCache employeeCache(
+            EmployeeApiClient employeeApiClient,
+            MeterRegistry meterRegistry,
+            @Value("${api.cache.by-id.maximum-size:10000}") long maximumSize,
+            @Value("${api.cache.by-id.ttl:30s}") Duration ttl,
+            @Value("${api.cache.by-id.miss-maximum-size:10000}") long missMaximumSize,
+            @Value("${api.cache.by-id.miss-ttl:5s}") Duration missTtl,
+            @Value("${api.cache.by-id.second-tier.enabled:true}") boolean secondTierEnabled,
+            @Value("${api.cache.by-id.second-tier.max-age:30s}") Duration secondTierMaxAge) {
+        return new EmployeeCache(
+                new EmployeeCache.Options(
+                        maximumSize,
+                        ttl,
+                        missMaximumSize,
+                        missTtl,
+                        secondTierEnabled ? secondTierMaxAge : Duration.ZERO),
+                secondTierEnabled ? id -> employeeApiClient.findRetained(id, secondTierMaxAge) : null,
+                meterRegistry);
+    }
+}
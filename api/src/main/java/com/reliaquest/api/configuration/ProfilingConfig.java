@@ -0,0 +1,47 @@
+package com.reliaquest.api.configuration;
+
+import com.reliaquest.api.profiling.DecodeEvent;
+import com.reliaquest.api.profiling.QueryExecutionEvent;
+import com.reliaquest.api.profiling.UpstreamCallEvent;
+import com.reliaquest.common.profiling.ContinuousRecording;
+import com.reliaquest.common.profiling.FlightRecordingEndpoint;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Configuration
+@ConditionalOnProperty(name = "api.profiling.enabled", havingValue = "true", matchIfMissing = true)
+public class ProfilingConfig {
+
+    @Bean(destroyMethod = "close")
+    public ContinuousRecording continuousRecording(
+            @Value("${api.profiling.configuration:default}") String configuration,
+            @Value("${api.profiling.max-age:15m}") Duration maxAge,
+            @Value("${api.profiling.max-size:100MB}") DataSize maxSize,
+            @Value("${api.profiling.dump-directory:build/flight-recordings}") String dumpDirectory,
+            @Value("${api.profiling.min-dump-interval:5m}") Duration minDumpInterval,
+            @Value("${api.profiling.event-threshold:1ms}") Duration eventThreshold) {
+        ContinuousRecording recording = new ContinuousRecording(
+                new ContinuousRecording.Options(
+                        "employee-api",
+                        configuration,
+                        maxAge,
+                        maxSize.toBytes(),
+                        Path.of(dumpDirectory),
+                        minDumpInterval,
+                        eventThreshold),
+                List.of(UpstreamCallEvent.class, DecodeEvent.class, QueryExecutionEvent.class));
+        recording.start();
+        return recording;
+    }
+
+    @Bean
+    public FlightRecordingEndpoint flightRecordingEndpoint(ContinuousRecording continuousRecording) {
+        return new FlightRecordingEndpoint(continuousRecording);
+    }
+}
@@ -1,13 +1,30 @@
 package com.reliaquest.api.configuration;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class RestTemplateConfig {
+    /**
+     * Uses the JDK client without a read timeout on the factory, so that requests go through its blocking
+     * {@code send}, which aborts the exchange when the calling thread is interrupted. The read timeout
+     * ({@code mock.employee.api.read-timeout}) is applied per attempt by {@code HedgedRequestExecutor}, which interrupts
+     * attempts that outlive it.
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(
+            RestTemplateBuilder builder, @Value("${mock.employee.api.connect-timeout:1s}") Duration connectTimeout) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .build();
+        return builder.requestFactory(() -> new JdkClientHttpRequestFactory(httpClient))
+                .build();
     }
 }
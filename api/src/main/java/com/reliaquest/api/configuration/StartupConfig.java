@@ -0,0 +1,19 @@
+package com.reliaquest.api.configuration;
+
+import com.reliaquest.api.controller.EmployeeController;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class StartupConfig {
+
+    /*
+     * Under spring.main.lazy-initialization the employee request path (controller, service, upstream client and
+     * their dependencies) still starts eagerly, so the first request does not pay for it.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter eagerRequestPath() {
+        return LazyInitializationExcludeFilter.forBeanTypes(EmployeeController.class);
+    }
+}
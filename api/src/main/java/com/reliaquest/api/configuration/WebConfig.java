@@ -0,0 +1,65 @@
+package com.reliaquest.api.configuration;
+
+import com.reliaquest.api.web.AdmissionControlInterceptor;
+import com.reliaquest.api.web.Bulkheads;
+import com.reliaquest.api.web.LatencyBreachInterceptor;
+import com.reliaquest.api.web.RequestDeadlineInterceptor;
+import com.reliaquest.common.profiling.ContinuousRecording;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Value("${api.deadline.default:3s}")
+    private Duration defaultDeadline;
+
+    @Value("${api.deadline.max:10s}")
+    private Duration maxDeadline;
+
+    @Value("${api.admission.enabled:true}")
+    private boolean admissionControlEnabled;
+
+    @Value("${api.admission.retry-after:1s}")
+    private Duration admissionRetryAfter;
+
+    @Value("${api.profiling.latency-threshold:2s}")
+    private Duration latencyThreshold;
+
+    @Autowired
+    private Bulkheads bulkheads;
+
+    @Autowired(required = false)
+    private ContinuousRecording continuousRecording;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Before admission control, which reads the request's deadline when it completes.
+        registry.addInterceptor(new RequestDeadlineInterceptor(defaultDeadline, maxDeadline))
+                .addPathPatterns("/api/**");
+        if (admissionControlEnabled) {
+            // Right after deadline parsing and ahead of the rest, so shed requests cost little beyond the rejection.
+            registry.addInterceptor(new AdmissionControlInterceptor(bulkheads, admissionRetryAfter))
+                    .addPathPatterns("/api/**");
+        }
+        if (continuousRecording != null) {
+            registry.addInterceptor(new LatencyBreachInterceptor(continuousRecording, latencyThreshold))
+                    .addPathPatterns("/api/**");
+        }
+    }
+
+    /*
+     * Smile is on the classpath for talking to the mock employee API only; the public contract stays JSON.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2SmileHttpMessageConverter);
+    }
+}
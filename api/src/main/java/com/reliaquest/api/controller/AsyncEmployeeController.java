@@ -0,0 +1,66 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.CreateStatus;
+import com.reliaquest.api.model.EmployeeDTO;
+import com.reliaquest.api.service.AsyncEmployeeCreateService;
+import jakarta.validation.Valid;
+import java.net.URI;
+import java.time.Duration;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * Accepts creates without waiting for the upstream. A create is acknowledged with {@code 202} and a tracking id
+ * once it is queued; its progress is then read from {@code GET /{trackingId}}.
+ */
+@RestController
+@RequestMapping("/api/v1/employee/async")
+@ConditionalOnProperty(name = "api.async-create.enabled", havingValue = "true")
+public class AsyncEmployeeController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncEmployeeController.class);
+    private final AsyncEmployeeCreateService asyncCreateService;
+    private final long retryAfterSeconds;
+
+    @Autowired
+    public AsyncEmployeeController(
+            AsyncEmployeeCreateService asyncCreateService,
+            @Value("${api.async-create.retry-after:1s}") Duration retryAfter) {
+        this.asyncCreateService = asyncCreateService;
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+    }
+
+    @PostMapping()
+    public ResponseEntity<CreateStatus> createEmployee(@Valid @RequestBody EmployeeDTO employeeInput) {
+        logger.info("Queueing employee: {}", employeeInput.getEmployee_name());
+        return asyncCreateService
+                .submit(employeeInput)
+                .map(status -> {
+                    URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                            .path("/{trackingId}")
+                            .buildAndExpand(status.getTrackingId())
+                            .toUri();
+                    return ResponseEntity.accepted().location(location).body(status);
+                })
+                .orElseGet(() -> {
+                    logger.warn("Create queue full, rejecting employee: {}", employeeInput.getEmployee_name());
+                    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                            .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                            .build();
+                });
+    }
+
+    @GetMapping("/{trackingId}")
+    public ResponseEntity<CreateStatus> getStatus(@PathVariable("trackingId") UUID trackingId) {
+        return ResponseEntity.of(asyncCreateService.getStatus(trackingId));
+    }
+}
@@ -1,14 +1,18 @@
 package com.reliaquest.api.controller;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.RequestContext;
+import com.reliaquest.api.codec.EmployeeCodec;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeDTO;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.web.Bulkhead;
+import com.reliaquest.common.filter.EmployeeFilter;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -18,64 +22,92 @@ import org.springframework.web.bind.annotation.*;
 public class EmployeeController implements IEmployeeController<Employee, String> {
 
     private static final Logger logger = LoggerFactory.getLogger(EmployeeController.class);
-    private final ObjectMapper objectMapper;
+    static final String STALE_AS_OF_HEADER = "X-Data-Stale-As-Of";
+    private final EmployeeCodec employeeCodec;
     private final EmployeeService employeeService;
 
     @Autowired
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, EmployeeCodec employeeCodec) {
         this.employeeService = employeeService;
-        this.objectMapper = new ObjectMapper();
+        this.employeeCodec = employeeCodec;
     }
 
     @Override
+    @Bulkhead(Bulkhead.SCAN)
     @GetMapping()
     public ResponseEntity<List<Employee>> getAllEmployees() {
         logger.info("Fetching all employees.");
         List<Employee> employees = employeeService.getAllEmployees();
-        return ResponseEntity.ok(employees);
+        return okWithFreshness(employees);
     }
 
     @Override
+    @Bulkhead(Bulkhead.SCAN)
     @GetMapping("/search/{searchString}")
     public ResponseEntity<List<Employee>> getEmployeesByNameSearch(String searchString) {
         logger.info("Searching employees by name: {}", searchString);
         List<Employee> employees = employeeService.getEmployeesByNameSearch(searchString);
-        return ResponseEntity.ok(employees);
+        return okWithFreshness(employees);
+    }
+
+    @Bulkhead(Bulkhead.SCAN)
+    @GetMapping("/filter")
+    public ResponseEntity<List<Employee>> getEmployeesByFilter(
+            @RequestParam(name = "minSalary", required = false) Integer minSalary,
+            @RequestParam(name = "maxSalary", required = false) Integer maxSalary,
+            @RequestParam(name = "minAge", required = false) Integer minAge,
+            @RequestParam(name = "maxAge", required = false) Integer maxAge,
+            @RequestParam(name = "sort", defaultValue = "salary") String sort,
+            @RequestParam(name = "order", defaultValue = "asc") String order,
+            @RequestParam(name = "limit", required = false) Integer limit) {
+        logger.info("Filtering employees: salary [{}, {}], age [{}, {}]", minSalary, maxSalary, minAge, maxAge);
+        final EmployeeFilter filter;
+        try {
+            filter = EmployeeFilter.fromParameters(minSalary, maxSalary, minAge, maxAge, sort, order, limit);
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid filter: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        return okWithFreshness(employeeService.getEmployeesByFilter(filter));
     }
 
     @Override
+    @Bulkhead(Bulkhead.POINT)
     @GetMapping("/{id}")
     public ResponseEntity<Employee> getEmployeeById(String id) {
         logger.info("Fetching employee by id: {}", id);
         Employee employee = employeeService.getEmployeeById(id);
         if (employee != null) {
-            return ResponseEntity.ok(employee);
+            return okWithFreshness(employee);
         } else {
             return ResponseEntity.notFound().build();
         }
     }
 
     @Override
+    @Bulkhead(Bulkhead.SCAN)
     @GetMapping("/highestSalary")
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
         logger.info("Fetching highest salary.");
         Integer highestSalary = employeeService.getHighestSalaryOfEmployees();
-        return ResponseEntity.ok(highestSalary);
+        return okWithFreshness(highestSalary);
     }
 
     @Override
+    @Bulkhead(Bulkhead.SCAN)
     @GetMapping("/topTenHighestEarningEmployeeNames")
     public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
         logger.info("Fetching top 10 highest earning employee names.");
         List<String> employeeNames = employeeService.getTop10HighestEarningEmployeeNames();
-        return ResponseEntity.ok(employeeNames);
+        return okWithFreshness(employeeNames);
     }
 
     @Override
+    @Bulkhead(Bulkhead.WRITE)
     public ResponseEntity<Employee> createEmployee(@RequestBody String employeeInput) {
         logger.info("Creating employee: {}", employeeInput);
         try {
-            EmployeeDTO employeeDTO = objectMapper.readValue(employeeInput, EmployeeDTO.class);
+            EmployeeDTO employeeDTO = employeeCodec.readEmployeeDto(employeeInput);
             Employee createdEmployee = employeeService.createEmployee(employeeDTO);
             return ResponseEntity.status(HttpStatus.CREATED).body(createdEmployee);
         } catch (IllegalArgumentException | JsonProcessingException e) {
@@ -85,6 +117,7 @@ public class EmployeeController implements IEmployeeController<Employee, String>
     }
 
     @Override
+    @Bulkhead(Bulkhead.WRITE)
     @DeleteMapping("/{id}")
     public ResponseEntity<String> deleteEmployeeById(@PathVariable("id") String id) {
         logger.info("Deleting employee by id: {}", id);
@@ -95,4 +128,16 @@ public class EmployeeController implements IEmployeeController<Employee, String>
             return ResponseEntity.notFound().build();
         }
     }
+
+    /**
+     * Marks responses assembled from retained data with a stale {@code Warning} and the time the data was fetched.
+     */
+    private <T> ResponseEntity<T> okWithFreshness(T body) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        RequestContext.current()
+                .getServedStaleAsOf()
+                .ifPresent(asOf -> builder.header(HttpHeaders.WARNING, "110 - \"Response is Stale\"")
+                        .header(STALE_AS_OF_HEADER, asOf.toString()));
+        return builder.body(body);
+    }
 }
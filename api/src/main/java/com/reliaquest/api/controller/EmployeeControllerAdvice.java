@@ -0,0 +1,32 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.client.InvalidEmployeeIdException;
+import com.reliaquest.api.client.UpstreamUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+@ControllerAdvice
+public class EmployeeControllerAdvice {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeControllerAdvice.class);
+
+    @ExceptionHandler
+    protected ResponseEntity<Void> handleUpstreamUnavailable(UpstreamUnavailableException ex) {
+        logger.warn("Upstream unavailable: {}", ex.getMessage());
+        long retryAfterSeconds = Math.max(1, (long) Math.ceil(ex.getRetryAfter().toMillis() / 1000.0));
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .build();
+    }
+
+    @ExceptionHandler
+    protected ResponseEntity<Void> handleInvalidEmployeeId(InvalidEmployeeIdException ex) {
+        logger.error(ex.getMessage());
+        return ResponseEntity.badRequest().build();
+    }
+}
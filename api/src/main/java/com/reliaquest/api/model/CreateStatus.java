@@ -0,0 +1,64 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Progress of an employee accepted for asynchronous creation.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public final class CreateStatus {
+
+    public enum State {
+        PENDING,
+        CREATED,
+        FAILED
+    }
+
+    private final UUID trackingId;
+    private final State state;
+    private final Employee employee;
+    private final String error;
+    private final Instant updatedAt;
+
+    private CreateStatus(UUID trackingId, State state, Employee employee, String error, Instant updatedAt) {
+        this.trackingId = trackingId;
+        this.state = state;
+        this.employee = employee;
+        this.error = error;
+        this.updatedAt = updatedAt;
+    }
+
+    public static CreateStatus pending(UUID trackingId) {
+        return new CreateStatus(trackingId, State.PENDING, null, null, Instant.now());
+    }
+
+    public CreateStatus created(Employee employee) {
+        return new CreateStatus(trackingId, State.CREATED, employee, null, Instant.now());
+    }
+
+    public CreateStatus failed(String error) {
+        return new CreateStatus(trackingId, State.FAILED, null, error, Instant.now());
+    }
+
+    public UUID getTrackingId() {
+        return trackingId;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public Employee getEmployee() {
+        return employee;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
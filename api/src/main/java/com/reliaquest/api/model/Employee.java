@@ -1,7 +1,7 @@
 package com.reliaquest.api.model;
 
-import java.util.Objects;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Objects;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
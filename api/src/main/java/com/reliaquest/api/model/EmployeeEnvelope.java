@@ -0,0 +1,18 @@
+package com.reliaquest.api.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class EmployeeEnvelope {
+    @JsonProperty("data")
+    private Employee data;
+
+    public Employee getData() {
+        return data;
+    }
+
+    public void setData(Employee data) {
+        this.data = data;
+    }
+}
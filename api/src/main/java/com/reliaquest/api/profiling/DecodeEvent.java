@@ -0,0 +1,40 @@
+package com.reliaquest.api.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Decoding of one upstream response body. Decoding streams, so the duration includes reading the body off the socket.
+ */
+@Name("com.reliaquest.api.Decode")
+@Label("Decode")
+@Category({"ReliaQuest", "Employee API"})
+@Description("Decoding of a mock employee API response body while it streams in")
+@StackTrace(false)
+public class DecodeEvent extends jdk.jfr.Event {
+
+    @Label("Content Type")
+    private String contentType;
+
+    @Label("Result Size")
+    @Description("Employees decoded")
+    private int resultSize;
+
+    public static DecodeEvent start(String contentType) {
+        DecodeEvent event = new DecodeEvent();
+        event.contentType = contentType;
+        event.begin();
+        return event;
+    }
+
+    public void finish(int resultSize) {
+        end();
+        if (shouldCommit()) {
+            this.resultSize = resultSize;
+            commit();
+        }
+    }
+}
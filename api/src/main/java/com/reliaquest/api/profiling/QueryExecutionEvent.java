@@ -0,0 +1,44 @@
+package com.reliaquest.api.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One query answered by the employee service, including the upstream calls it made.
+ */
+@Name("com.reliaquest.api.QueryExecution")
+@Label("Query Execution")
+@Category({"ReliaQuest", "Employee API"})
+@Description("Query answered by the employee service, including its upstream calls and in-memory processing")
+@StackTrace(false)
+public class QueryExecutionEvent extends jdk.jfr.Event {
+
+    @Label("Query")
+    private String query;
+
+    @Label("Dataset Size")
+    @Description("Employees the query had to look at")
+    private int datasetSize;
+
+    @Label("Result Size")
+    private int resultSize;
+
+    public static QueryExecutionEvent start(String query) {
+        QueryExecutionEvent event = new QueryExecutionEvent();
+        event.query = query;
+        event.begin();
+        return event;
+    }
+
+    public void finish(int datasetSize, int resultSize) {
+        end();
+        if (shouldCommit()) {
+            this.datasetSize = datasetSize;
+            this.resultSize = resultSize;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.reliaquest.api.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One exchange with the mock employee API, from sending the request until its response is decoded.
+ */
+@Name("com.reliaquest.api.UpstreamCall")
+@Label("Upstream Call")
+@Category({"ReliaQuest", "Employee API"})
+@Description("Request to the mock employee API, including the wait for and decoding of its response")
+@StackTrace(false)
+public class UpstreamCallEvent extends jdk.jfr.Event {
+
+    @Label("Method")
+    private String method;
+
+    @Label("URL")
+    private String url;
+
+    @Label("Status")
+    @Description("HTTP status of the response, or 0 when none was received")
+    private int status;
+
+    @Label("Result Size")
+    @Description("Employees in the decoded response")
+    private int resultSize;
+
+    public static UpstreamCallEvent start(String method, String url) {
+        UpstreamCallEvent event = new UpstreamCallEvent();
+        event.method = method;
+        event.url = url;
+        event.begin();
+        return event;
+    }
+
+    public void finish(int status, int resultSize) {
+        end();
+        if (shouldCommit()) {
+            this.status = status;
+            this.resultSize = resultSize;
+            commit();
+        }
+    }
+}
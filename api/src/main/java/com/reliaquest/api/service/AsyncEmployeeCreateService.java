@@ -0,0 +1,262 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.EmployeePrefetcher;
+import com.reliaquest.api.client.IEmployeeApiClient;
+import com.reliaquest.api.client.PartialBatchCreateException;
+import com.reliaquest.api.client.RequestContext;
+import com.reliaquest.api.client.UpstreamUnavailableException;
+import com.reliaquest.api.model.CreateStatus;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Accepts creates into a bounded queue and sends them upstream in micro-batches from a single flusher thread. A batch
+ * is sent once it holds {@code batch-size} employees or its first employee has waited {@code linger}, whichever comes
+ * first. Batches that fail because the upstream is unavailable or rate limiting are retried with exponential backoff,
+ * up to {@code max-attempts}. While retries are pending, the queue keeps absorbing creates until it is full. After
+ * that, {@link #submit} refuses new work. Every flushed batch invalidates the prefetched employee list, like a
+ * synchronous create does.
+ */
+@Service
+@ConditionalOnProperty(name = "api.async-create.enabled", havingValue = "true")
+public class AsyncEmployeeCreateService {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncEmployeeCreateService.class);
+
+    private final IEmployeeApiClient restApiClient;
+    private final EmployeePrefetcher employeePrefetcher;
+    private final BlockingQueue<PendingCreate> queue;
+    private final Map<UUID, CreateStatus> statuses = new ConcurrentHashMap<>();
+    private final int batchSize;
+    private final long lingerNanos;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration statusRetention;
+    private final Duration flushTimeout;
+    private final Thread flusher;
+    private volatile boolean running = true;
+    private long nextEviction = System.nanoTime();
+
+    private final Counter created;
+    private final Counter failed;
+    private final Counter rejected;
+    private final DistributionSummary batchSizes;
+
+    public AsyncEmployeeCreateService(
+            IEmployeeApiClient restApiClient,
+            EmployeePrefetcher employeePrefetcher,
+            MeterRegistry meterRegistry,
+            @Value("${api.async-create.queue-capacity:1000}") int queueCapacity,
+            @Value("${api.async-create.batch-size:50}") int batchSize,
+            @Value("${api.async-create.linger:200ms}") Duration linger,
+            @Value("${api.async-create.max-attempts:5}") int maxAttempts,
+            @Value("${api.async-create.retry-backoff:1s}") Duration retryBackoff,
+            @Value("${api.async-create.status-retention:10m}") Duration statusRetention,
+            @Value("${api.async-create.flush-timeout:5s}") Duration flushTimeout) {
+        this.restApiClient = restApiClient;
+        this.employeePrefetcher = employeePrefetcher;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.lingerNanos = linger.toNanos();
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.statusRetention = statusRetention;
+        this.flushTimeout = flushTimeout;
+        this.flusher = new Thread(this::run, "async-create-flusher");
+        this.flusher.setDaemon(true);
+        this.created = meterRegistry.counter("api.async-create", "outcome", "created");
+        this.failed = meterRegistry.counter("api.async-create", "outcome", "failed");
+        this.rejected = meterRegistry.counter("api.async-create", "outcome", "rejected");
+        this.batchSizes = meterRegistry.summary("api.async-create.batch.size");
+        meterRegistry.gauge("api.async-create.queue.size", queue, BlockingQueue::size);
+    }
+
+    @PostConstruct
+    void start() {
+        flusher.start();
+    }
+
+    /**
+     * Flushes what is already queued, then stops.
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        flusher.interrupt();
+        flusher.join(flushTimeout.multipliedBy(2).toMillis());
+    }
+
+    /**
+     * @return the pending status of the accepted create, or empty when the queue is full.
+     */
+    public Optional<CreateStatus> submit(EmployeeDTO employeeInput) {
+        // The client mints ids on the shard a batch goes to; a caller-supplied id is not honoured.
+        employeeInput.setId(null);
+        CreateStatus status = CreateStatus.pending(UUID.randomUUID());
+        statuses.put(status.getTrackingId(), status);
+        if (!queue.offer(new PendingCreate(status, employeeInput))) {
+            statuses.remove(status.getTrackingId());
+            rejected.increment();
+            return Optional.empty();
+        }
+        return Optional.of(status);
+    }
+
+    public Optional<CreateStatus> getStatus(UUID trackingId) {
+        return Optional.ofNullable(statuses.get(trackingId));
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    private void run() {
+        List<PendingCreate> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                // Interrupted by stop(); flush what was collected and drain the rest.
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+                // Even a failed batch may have been written upstream, so the prefetched list is out of date either way.
+                employeePrefetcher.invalidate();
+            }
+            evictExpired();
+        }
+    }
+
+    private void collect(List<PendingCreate> batch) throws InterruptedException {
+        PendingCreate first = running ? queue.poll(lingerNanos, TimeUnit.NANOSECONDS) : queue.poll();
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < batchSize) {
+            if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            PendingCreate next = running && remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    /*
+     * Retries resend the same bodies, ids included, and the upstream answers an id it already holds with the existing
+     * employee, so a batch committed upstream whose response was lost is not created twice. When the upstream has no
+     * batch route, creates go one at a time and only the ones never sent are retried: such a server may ignore ids, so
+     * the create that failed is given up on rather than risk creating it twice.
+     */
+    private void flush(List<PendingCreate> batch) {
+        batchSizes.record(batch.size());
+        List<PendingCreate> remaining = batch;
+        String lastError = "Upstream unavailable";
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            RequestContext.begin(flushTimeout);
+            try {
+                List<Employee> employees = restApiClient.createEmployees(
+                        remaining.stream().map(PendingCreate::employeeInput).toList());
+                if (employees == null || employees.size() != remaining.size()) {
+                    fail(remaining, "Upstream rejected the batch");
+                    return;
+                }
+                complete(remaining, employees);
+                return;
+            } catch (PartialBatchCreateException e) {
+                int created = e.getCreated().size();
+                complete(remaining.subList(0, created), e.getCreated());
+                fail(remaining.subList(created, created + 1), "Create may not have completed: " + e.getMessage());
+                remaining = remaining.subList(created + 1, remaining.size());
+                lastError = e.getMessage();
+                logger.warn("Batch failed partway on attempt {}, {} left: {}", attempt, remaining.size(), lastError);
+                if (remaining.isEmpty()) {
+                    return;
+                }
+            } catch (UpstreamUnavailableException | RestClientException e) {
+                lastError = e.getMessage();
+                logger.warn("Batch of {} failed on attempt {}: {}", remaining.size(), attempt, lastError);
+            } catch (RuntimeException e) {
+                logger.error("Batch of {} failed", remaining.size(), e);
+                fail(remaining, String.valueOf(e.getMessage()));
+                return;
+            } finally {
+                RequestContext.end();
+            }
+            if (attempt < maxAttempts && !backOff(attempt)) {
+                break;
+            }
+        }
+        fail(remaining, lastError);
+    }
+
+    private boolean backOff(int attempt) {
+        try {
+            Thread.sleep(retryBackoff.multipliedBy(1L << Math.min(attempt - 1, 6)).toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            // Shutting down: give the batch one last attempt only if it is the first retry.
+            return attempt == 1;
+        }
+    }
+
+    private void complete(List<PendingCreate> batch, List<Employee> employees) {
+        for (int i = 0; i < batch.size(); i++) {
+            CreateStatus status = batch.get(i).status();
+            Employee employee = employees.get(i);
+            if (employee != null) {
+                statuses.put(status.getTrackingId(), status.created(employee));
+                created.increment();
+            } else {
+                statuses.put(status.getTrackingId(), status.failed("Upstream rejected the employee"));
+                failed.increment();
+            }
+        }
+    }
+
+    private void fail(List<PendingCreate> batch, String error) {
+        batch.forEach(pending ->
+                statuses.put(pending.status().getTrackingId(), pending.status().failed(error)));
+        failed.increment(batch.size());
+    }
+
+    private void evictExpired() {
+        long now = System.nanoTime();
+        if (now - nextEviction < 0) {
+            return;
+        }
+        nextEviction = now + TimeUnit.SECONDS.toNanos(1);
+        Instant cutoff = Instant.now().minus(statusRetention);
+        statuses.values().removeIf(status ->
+                status.getState() != CreateStatus.State.PENDING && status.getUpdatedAt().isBefore(cutoff));
+    }
+
+    private record PendingCreate(CreateStatus status, EmployeeDTO employeeInput) {}
+}
@@ -1,13 +1,18 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.cache.EmployeePrefetcher;
+import com.reliaquest.api.cache.WarmEmployeeView;
 import com.reliaquest.api.client.EmployeeApiClient;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeDTO;
+import com.reliaquest.api.profiling.QueryExecutionEvent;
+import com.reliaquest.common.filter.EmployeeFilter;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -16,70 +21,125 @@ public class EmployeeService implements IEmployeeService {
 
     private final EmployeeApiClient restApiClient;
 
+    private final EmployeeCache employeeCache;
+
+    private final EmployeePrefetcher employeePrefetcher;
+
     @Autowired
-    public EmployeeService(EmployeeApiClient restApiClient) {
+    public EmployeeService(
+            EmployeeApiClient restApiClient,
+            ObjectProvider<EmployeeCache> employeeCache,
+            EmployeePrefetcher employeePrefetcher) {
         this.restApiClient = restApiClient;
+        this.employeeCache = employeeCache.getIfAvailable();
+        this.employeePrefetcher = employeePrefetcher;
     }
 
+    /*
+     * Aggregate reads are answered from the prefetched view while it is fresh, and from upstream otherwise.
+     */
     @Override
     public List<Employee> getAllEmployees() {
-        return restApiClient.getEmployees("");
+        QueryExecutionEvent event = QueryExecutionEvent.start("all");
+        WarmEmployeeView view = employeePrefetcher.currentView();
+        List<Employee> employees = view != null ? view.getEmployees() : restApiClient.getEmployees();
+        event.finish(employees.size(), employees.size());
+        return employees;
     }
 
     @Override
     public List<Employee> getEmployeesByNameSearch(String searchString) {
-        List<Employee> allEmployees = getAllEmployees();
+        QueryExecutionEvent event = QueryExecutionEvent.start("nameSearch");
+        WarmEmployeeView view = employeePrefetcher.currentView();
+        if (view != null) {
+            List<Employee> matches = view.searchByName(searchString);
+            event.finish(view.getEmployees().size(), matches.size());
+            return matches;
+        }
+        List<Employee> allEmployees = restApiClient.getEmployees();
         if (allEmployees == null) {
             return Collections.emptyList();
         }
-        return allEmployees.stream()
+        List<Employee> matches = allEmployees.stream()
                 .filter(employee -> employee.getName().toLowerCase().contains(searchString.toLowerCase()))
                 .collect(Collectors.toList());
+        event.finish(allEmployees.size(), matches.size());
+        return matches;
+    }
+
+    /**
+     * Range queries are answered by the mock employee API, so only matches cross the wire.
+     */
+    public List<Employee> getEmployeesByFilter(EmployeeFilter filter) {
+        QueryExecutionEvent event = QueryExecutionEvent.start("filter");
+        List<Employee> matches = restApiClient.getEmployeesByFilter(filter);
+        event.finish(matches.size(), matches.size());
+        return matches;
     }
 
     @Override
     public Employee getEmployeeById(String id) {
-        return restApiClient.getEmployee("/" + id);
+        return employeeCache != null
+                ? employeeCache.get(id, restApiClient::getEmployee)
+                : restApiClient.getEmployee(id);
     }
 
     @Override
     public Integer getHighestSalaryOfEmployees() {
-        List<Employee> allEmployees = getAllEmployees();
-        if (allEmployees == null) {
-            return 0;
+        QueryExecutionEvent event = QueryExecutionEvent.start("highestSalary");
+        WarmEmployeeView view = employeePrefetcher.currentView();
+        if (view != null) {
+            event.finish(view.getEmployees().size(), 1);
+            return view.getHighestSalary();
         }
-        return allEmployees.stream()
-                .max(Comparator.comparingInt(Employee::getSalary))
-                .map(Employee::getSalary)
-                .orElse(0);
+        List<Employee> candidates = restApiClient.getTopEarningEmployees(1);
+        Integer highestSalary =
+                candidates.stream().findFirst().map(Employee::getSalary).orElse(0);
+        event.finish(candidates.size(), 1);
+        return highestSalary;
     }
 
     @Override
     public List<String> getTop10HighestEarningEmployeeNames() {
-        List<Employee> allEmployees = getAllEmployees();
-        if (allEmployees == null) {
-            return null;
+        QueryExecutionEvent event = QueryExecutionEvent.start("topTenNames");
+        WarmEmployeeView view = employeePrefetcher.currentView();
+        if (view != null) {
+            event.finish(view.getEmployees().size(), view.getTopEarnerNames().size());
+            return view.getTopEarnerNames();
         }
-        return allEmployees.stream()
-                .sorted(Comparator.comparingInt(Employee::getSalary).reversed())
-                .limit(10)
-                .map(Employee::getName)
-                .collect(Collectors.toList());
+        List<Employee> topEarners = restApiClient.getTopEarningEmployees(10);
+        List<String> names = topEarners.stream().map(Employee::getName).collect(Collectors.toList());
+        event.finish(topEarners.size(), names.size());
+        return names;
     }
 
     @Override
     public Employee createEmployee(EmployeeDTO employeeInput) {
         employeeInput.setId(UUID.randomUUID().toString());
-        return restApiClient.createEmployee("", employeeInput);
+        Employee createdEmployee = restApiClient.createEmployee(employeeInput);
+        if (employeeCache != null && createdEmployee != null) {
+            employeeCache.put(createdEmployee);
+        }
+        employeePrefetcher.invalidate();
+        return createdEmployee;
     }
 
     @Override
     public String deleteEmployeeById(String id) {
-        Employee employee = getEmployeeById(id);
-        if (employee == null) {
-            return null;
+        Employee deletedEmployee;
+        try {
+            deletedEmployee = restApiClient.deleteEmployee(id);
+        } catch (RuntimeException e) {
+            if (employeeCache != null) {
+                employeeCache.invalidate(id);
+            }
+            employeePrefetcher.invalidate();
+            throw e;
+        }
+        if (employeeCache != null) {
+            employeeCache.markDeleted(id);
         }
-        Employee deletedEmployee = restApiClient.deleteEmployee("/" + id);
+        employeePrefetcher.invalidate();
         return deletedEmployee != null ? deletedEmployee.getName() : null;
     }
 
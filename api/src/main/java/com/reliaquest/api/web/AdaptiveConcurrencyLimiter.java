@@ -0,0 +1,180 @@
+package com.reliaquest.api.web;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Concurrency limit that adapts to observed latency, after the gradient algorithm. Every {@value #WINDOW_SIZE}
+ * completed requests, the window's average latency is compared with a long-term average:
+ *
+ * <ul>
+ *   <li>While latency stays within {@code tolerance} times the long-term average and the limit is actually being
+ *       used, the limit grows by about its square root.
+ *   <li>When latency rises beyond that, the limit shrinks in proportion, by at most half per window.
+ *   <li>A window containing a dropped request (one that missed its deadline) backs the limit off multiplicatively.
+ * </ul>
+ *
+ * Changes are smoothed and clamped to {@code [minLimit, maxLimit]}.
+ */
+public class AdaptiveConcurrencyLimiter {
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+    static final int WINDOW_SIZE = 10;
+    private static final double LONG_RTT_ALPHA = 2.0 / (60 + 1);
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRttNanos;
+    private long windowRttNanos;
+    private int windowSamples;
+    private int windowCompletions;
+    private int windowMaxInflight;
+    private boolean windowDropped;
+
+    public AdaptiveConcurrencyLimiter(
+            String name, int initialLimit, int minLimit, int maxLimit, double smoothing, double tolerance) {
+        this(name, initialLimit, minLimit, maxLimit, smoothing, tolerance, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(
+            String name,
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            double smoothing,
+            double tolerance,
+            LongSupplier nanoClock) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= max");
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.tolerance = tolerance;
+        this.nanoClock = nanoClock;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * @return a permit that must be released once the request completes, or {@code null} when the limit is reached.
+     */
+    public Permit tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= limit) {
+                return null;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return new Permit(nanoClock.getAsLong(), current + 1);
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    private synchronized void onSample(long rttNanos, int inflightAtStart, boolean dropped) {
+        if (dropped) {
+            windowDropped = true;
+        } else {
+            windowRttNanos += rttNanos;
+            windowSamples++;
+        }
+        windowMaxInflight = Math.max(windowMaxInflight, inflightAtStart);
+        if (++windowCompletions < WINDOW_SIZE) {
+            return;
+        }
+
+        double previous = estimatedLimit;
+        if (windowDropped) {
+            estimatedLimit = estimatedLimit * BACKOFF_RATIO;
+        } else {
+            double shortRtt = (double) windowRttNanos / windowSamples;
+            longRttNanos = longRttNanos == 0 ? shortRtt : longRttNanos + (shortRtt - longRttNanos) * LONG_RTT_ALPHA;
+            if (longRttNanos / shortRtt > 2) {
+                // Latency has dropped well below the long-term average; let the average catch up.
+                longRttNanos *= 0.95;
+            }
+            if (windowMaxInflight >= estimatedLimit / 2) {
+                double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRttNanos / shortRtt));
+                double target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+                estimatedLimit = estimatedLimit * (1 - smoothing) + target * smoothing;
+            }
+        }
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, estimatedLimit));
+        limit = (int) estimatedLimit;
+        if ((int) previous != limit) {
+            logger.debug("Bulkhead {} limit {} -> {}", name, (int) previous, limit);
+        }
+
+        windowRttNanos = 0;
+        windowSamples = 0;
+        windowCompletions = 0;
+        windowMaxInflight = 0;
+        windowDropped = false;
+    }
+
+    /**
+     * Admission to the bulkhead. Release exactly once, with {@link #onSuccess()}, {@link #onDropped()} or
+     * {@link #onIgnored()}.
+     */
+    public final class Permit {
+        private final long startNanos;
+        private final int inflightAtStart;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(long startNanos, int inflightAtStart) {
+            this.startNanos = startNanos;
+            this.inflightAtStart = inflightAtStart;
+        }
+
+        public void onSuccess() {
+            release(false);
+        }
+
+        public void onDropped() {
+            release(true);
+        }
+
+        /**
+         * Releases the permit without a sample, for outcomes that say nothing about this service's own capacity, such
+         * as a fast failure while the upstream is unavailable.
+         */
+        public void onIgnored() {
+            if (released.compareAndSet(false, true)) {
+                inflight.decrementAndGet();
+            }
+        }
+
+        private void release(boolean dropped) {
+            if (released.compareAndSet(false, true)) {
+                inflight.decrementAndGet();
+                onSample(nanoClock.getAsLong() - startNanos, inflightAtStart, dropped);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.client.RequestContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Admits requests to handlers annotated with {@link Bulkhead} only while their bulkhead is under its limit. Others are
+ * shed at once with {@code 503} and {@code Retry-After}, before any upstream work starts. Only local overload backs
+ * the limit off: a {@code 504}, or a request that finished past its {@link RequestContext} deadline, counts as
+ * dropped. Other server errors and unhandled exceptions, such as a {@code 503} while an upstream circuit is open,
+ * release the permit without a sample, so fast failures neither shrink the limit nor pass for low latency. Must run
+ * after {@link RequestDeadlineInterceptor} has started the request's context.
+ */
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionControlInterceptor.class);
+
+    private static final String PERMIT_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".permit";
+
+    private final Bulkheads bulkheads;
+    private final String retryAfterSeconds;
+
+    public AdmissionControlInterceptor(Bulkheads bulkheads, Duration retryAfter) {
+        this.bulkheads = bulkheads;
+        this.retryAfterSeconds = String.valueOf(Math.max(1, (long) Math.ceil(retryAfter.toMillis() / 1000.0)));
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        Bulkhead bulkhead = handlerMethod.getMethodAnnotation(Bulkhead.class);
+        if (bulkhead == null) {
+            return true;
+        }
+        String name = bulkhead.value();
+        AdaptiveConcurrencyLimiter.Permit permit = bulkheads.forBulkhead(name).tryAcquire();
+        if (permit == null) {
+            logger.debug("Shedding {} {}, bulkhead {} is full", request.getMethod(), request.getRequestURI(), name);
+            bulkheads.onRejected(name);
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            return false;
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, permit);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(PERMIT_ATTRIBUTE) instanceof AdaptiveConcurrencyLimiter.Permit permit)) {
+            return;
+        }
+        int status = response.getStatus();
+        if (status == HttpStatus.GATEWAY_TIMEOUT.value() || RequestContext.current().remainingNanos() <= 0) {
+            permit.onDropped();
+        } else if (ex != null || status >= 500) {
+            permit.onIgnored();
+        } else {
+            permit.onSuccess();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.reliaquest.api.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Assigns a handler method to a bulkhead. Each bulkhead has its own {@link AdaptiveConcurrencyLimiter}, so saturating
+ * one class of endpoint cannot starve the others.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkhead {
+
+    /** Lookups of a single employee. */
+    String POINT = "point";
+
+    /** Reads that touch the full list of every shard. */
+    String SCAN = "scan";
+
+    /** Creates and deletes. */
+    String WRITE = "write";
+
+    String value();
+}
@@ -0,0 +1,61 @@
+package com.reliaquest.api.web;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * One {@link AdaptiveConcurrencyLimiter} per {@link Bulkhead}, with limit, in-flight and rejection metrics tagged by
+ * bulkhead name.
+ */
+@Component
+public class Bulkheads {
+
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+
+    public Bulkheads(
+            MeterRegistry meterRegistry,
+            @Value("${api.admission.initial-limit:20}") int initialLimit,
+            @Value("${api.admission.min-limit:2}") int minLimit,
+            @Value("${api.admission.max-limit:200}") int maxLimit,
+            @Value("${api.admission.smoothing:0.2}") double smoothing,
+            @Value("${api.admission.latency-tolerance:1.5}") double tolerance) {
+        this.meterRegistry = meterRegistry;
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.tolerance = tolerance;
+        List.of(Bulkhead.POINT, Bulkhead.SCAN, Bulkhead.WRITE).forEach(this::forBulkhead);
+    }
+
+    public AdaptiveConcurrencyLimiter forBulkhead(String name) {
+        return limiters.computeIfAbsent(name, this::create);
+    }
+
+    public void onRejected(String name) {
+        meterRegistry.counter("api.admission.rejected", "bulkhead", name).increment();
+    }
+
+    private AdaptiveConcurrencyLimiter create(String name) {
+        AdaptiveConcurrencyLimiter limiter =
+                new AdaptiveConcurrencyLimiter(name, initialLimit, minLimit, maxLimit, smoothing, tolerance);
+        Gauge.builder("api.admission.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("api.admission.inflight", limiter, AdaptiveConcurrencyLimiter::getInflight)
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        return limiter;
+    }
+}
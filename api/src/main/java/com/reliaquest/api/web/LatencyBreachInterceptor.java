@@ -0,0 +1,49 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.common.profiling.ContinuousRecording;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Dumps the continuous flight recording when a request takes longer than the threshold, so the recording around a
+ * latency spike is kept before the ring buffer rolls over it. Dumps are rate limited by the recording itself.
+ */
+public class LatencyBreachInterceptor implements HandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(LatencyBreachInterceptor.class);
+    private static final String STARTED_AT = LatencyBreachInterceptor.class.getName() + ".startedAt";
+
+    private final ContinuousRecording recording;
+    private final long thresholdNanos;
+
+    public LatencyBreachInterceptor(ContinuousRecording recording, Duration threshold) {
+        this.recording = recording;
+        this.thresholdNanos = threshold.toNanos();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(STARTED_AT, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(STARTED_AT) instanceof Long startedAt)) {
+            return;
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        if (elapsed > thresholdNanos && recording.dumpOnBreach("latency-breach")) {
+            logger.warn(
+                    "{} {} took {} ms, dumping flight recording",
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    Duration.ofNanos(elapsed).toMillis());
+        }
+    }
+}
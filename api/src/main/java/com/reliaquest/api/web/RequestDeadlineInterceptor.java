@@ -0,0 +1,48 @@
+package com.reliaquest.api.web;
+
+import com.reliaquest.api.client.RequestContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Starts a {@link RequestContext} for every incoming request. Callers may shorten the deadline with the
+ * {@value #TIMEOUT_HEADER} header; it is capped at the configured maximum.
+ */
+public class RequestDeadlineInterceptor implements HandlerInterceptor {
+
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout-Ms";
+
+    private final Duration defaultTimeout;
+    private final Duration maxTimeout;
+
+    public RequestDeadlineInterceptor(Duration defaultTimeout, Duration maxTimeout) {
+        this.defaultTimeout = defaultTimeout;
+        this.maxTimeout = maxTimeout;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestContext.begin(resolveTimeout(request.getHeader(TIMEOUT_HEADER)));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestContext.end();
+    }
+
+    private Duration resolveTimeout(String header) {
+        if (header == null || header.isBlank()) {
+            return defaultTimeout;
+        }
+        try {
+            Duration requested = Duration.ofMillis(Long.parseLong(header.trim()));
+            return requested.compareTo(maxTimeout) > 0 ? maxTimeout : requested;
+        } catch (NumberFormatException e) {
+            return defaultTimeout;
+        }
+    }
+}
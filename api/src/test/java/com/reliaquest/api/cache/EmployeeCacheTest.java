@@ -0,0 +1,197 @@
+package com.reliaquest.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmployeeCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final Map<String, Employee> upstream = new ConcurrentHashMap<>();
+
+    private final Map<String, Employee> snapshot = new HashMap<>();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private EmployeeCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        cache = new EmployeeCache(
+                new EmployeeCache.Options(
+                        100, Duration.ofMinutes(1), 100, Duration.ofMinutes(1), Duration.ofMinutes(5)),
+                snapshot::get,
+                meterRegistry);
+    }
+
+    @Test
+    public void testHitsDoNotReachUpstream() {
+        upstream.put("1", employee("1"));
+
+        assertThat(cache.get("1", this::load)).isEqualTo(employee("1"));
+        assertThat(cache.get("1", this::load)).isEqualTo(employee("1"));
+
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry
+                        .get("cache.gets")
+                        .tag("cache", "employee.by-id")
+                        .tag("result", "hit")
+                        .functionCounter()
+                        .count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("employee.by-id.load").tag("result", "found").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void testMissesAreCachedUntilCreated() {
+        assertThat(cache.get("1", this::load)).isNull();
+        upstream.put("1", employee("1"));
+        assertThat(cache.get("1", this::load)).isNull();
+        assertThat(loads).hasValue(1);
+
+        cache.put(employee("1"));
+
+        assertThat(cache.get("1", this::load)).isEqualTo(employee("1"));
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    public void testSecondTierFillsFromSnapshot() {
+        snapshot.put("1", employee("1"));
+
+        assertThat(cache.get("1", this::load)).isEqualTo(employee("1"));
+
+        assertThat(loads).hasValue(0);
+        assertThat(meterRegistry.counter("employee.by-id.second-tier.hits").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void testDeletedIdsAreNotRevivedFromSnapshot() {
+        snapshot.put("1", employee("1"));
+        assertThat(cache.get("1", this::load)).isNotNull();
+
+        cache.markDeleted("1");
+
+        assertThat(cache.get("1", this::load)).isNull();
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    public void testFailedLoadsAreNotCached() {
+        Function<String, Employee> failing = id -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("upstream down");
+        };
+
+        assertThatThrownBy(() -> cache.get("1", failing)).isInstanceOf(IllegalStateException.class);
+        upstream.put("1", employee("1"));
+
+        assertThat(cache.get("1", this::load)).isEqualTo(employee("1"));
+        assertThat(loads).hasValue(2);
+        assertThat(meterRegistry.get("employee.by-id.load").tag("result", "error").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void testDeleteDuringLoadIsNotUndoneByIt() {
+        upstream.put("1", employee("1"));
+
+        Employee loaded = cache.get("1", id -> {
+            Employee employee = load(id);
+            cache.markDeleted(id);
+            return employee;
+        });
+
+        assertThat(loaded).isEqualTo(employee("1"));
+        assertThat(cache.get("1", this::load)).isNull();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    public void testWriteDuringLoadWinsOverItsResult() {
+        upstream.put("1", employee("1"));
+        Employee updated = employee("1");
+        updated.setName("Updated");
+
+        cache.get("1", id -> {
+            Employee employee = load(id);
+            cache.put(updated);
+            return employee;
+        });
+
+        assertThat(cache.get("1", this::load).getName()).isEqualTo("Updated");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    public void testConcurrentMissesShareOneLoad() throws Exception {
+        upstream.put("1", employee("1"));
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<String, Employee> slow = id -> {
+            loadStarted.countDown();
+            await(release);
+            return load(id);
+        };
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<Employee> first = callers.submit(() -> cache.get("1", slow));
+            assertThat(loadStarted.await(1, TimeUnit.SECONDS)).isTrue();
+            Future<Employee> second = callers.submit(() -> cache.get("1", slow));
+            awaitSharedLoads(1);
+            release.countDown();
+
+            assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo(employee("1"));
+            assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo(employee("1"));
+            assertThat(loads).hasValue(1);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    private void awaitSharedLoads(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (meterRegistry.counter("employee.by-id.shared-loads").count() < count) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Employee load(String id) {
+        loads.incrementAndGet();
+        return upstream.get(id);
+    }
+
+    private static Employee employee(String id) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setName("Employee " + id);
+        return employee;
+    }
+}
@@ -0,0 +1,135 @@
+package com.reliaquest.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.client.EmployeeApiClientStub;
+import com.reliaquest.api.client.RequestContext;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmployeePrefetcherTest {
+
+    private static final long SECONDS = 1_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    private Supplier<List<Employee>> upstream;
+
+    private EmployeePrefetcher prefetcher;
+
+    @BeforeEach
+    public void setUp() {
+        upstream = () -> employees(25);
+        // Disabled so that nothing runs on the scheduler; refresh() is driven by the tests.
+        prefetcher = new EmployeePrefetcher(
+                new StubClient(),
+                new SimpleMeterRegistry(),
+                false,
+                Duration.ofMinutes(1),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(2),
+                Duration.ofSeconds(10),
+                2,
+                Duration.ofMinutes(1),
+                clock::get);
+    }
+
+    @Test
+    public void testBuildsDerivedReadsFromTheFetchedList() {
+        assertThat(prefetcher.currentView()).isNull();
+
+        assertThat(prefetcher.refresh()).isTrue();
+
+        WarmEmployeeView view = prefetcher.currentView();
+        assertThat(prefetcher.isWarm()).isTrue();
+        assertThat(view.getEmployees()).containsExactlyElementsOf(employees(25));
+        assertThat(view.getHighestSalary()).isEqualTo(25_000);
+        assertThat(view.getTopEarnerNames())
+                .containsExactlyElementsOf(IntStream.iterate(25, i -> i - 1)
+                        .limit(10)
+                        .mapToObj(i -> "Employee " + i)
+                        .toList());
+        assertThat(view.searchByName("EMPLOYEE 2"))
+                .extracting(Employee::getName)
+                .containsExactly("Employee 2", "Employee 20", "Employee 21", "Employee 22", "Employee 23",
+                        "Employee 24", "Employee 25");
+    }
+
+    @Test
+    public void testSkipsRefreshesBeyondTheBudget() {
+        assertThat(prefetcher.refresh()).isTrue();
+        assertThat(prefetcher.refresh()).isTrue();
+        assertThat(prefetcher.refresh()).isFalse();
+        assertThat(fetches).hasValue(2);
+
+        clock.addAndGet(60 * SECONDS);
+
+        assertThat(prefetcher.refresh()).isTrue();
+        assertThat(fetches).hasValue(3);
+    }
+
+    @Test
+    public void testWritesDropTheViewAndDiscardOverlappingFetches() {
+        prefetcher.refresh();
+
+        prefetcher.invalidate();
+        assertThat(prefetcher.currentView()).isNull();
+        assertThat(prefetcher.isWarm()).isTrue();
+
+        upstream = () -> {
+            prefetcher.invalidate();
+            return employees(25);
+        };
+        assertThat(prefetcher.refresh()).isFalse();
+        assertThat(prefetcher.currentView()).isNull();
+    }
+
+    @Test
+    public void testDoesNotWarmFromStaleData() {
+        upstream = () -> {
+            RequestContext.current().markServedStale(Instant.now().minusSeconds(60));
+            return employees(25);
+        };
+
+        assertThat(prefetcher.refresh()).isFalse();
+        assertThat(prefetcher.isWarm()).isFalse();
+        assertThat(RequestContext.current().getServedStaleAsOf()).isEmpty();
+    }
+
+    private static List<Employee> employees(int count) {
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Employee employee = new Employee();
+            employee.setId(UUID.nameUUIDFromBytes(new byte[] {(byte) i}).toString());
+            employee.setName("Employee " + i);
+            employee.setSalary(i * 1_000);
+            employee.setAge(20 + i);
+            employee.setTitle("Engineer");
+            employee.setEmail("employee" + i + "@company.com");
+            employees.add(employee);
+        }
+        return employees;
+    }
+
+    private class StubClient extends EmployeeApiClientStub {
+
+        @Override
+        public List<Employee> getEmployees() {
+            fetches.incrementAndGet();
+            return upstream.get();
+        }
+    }
+}
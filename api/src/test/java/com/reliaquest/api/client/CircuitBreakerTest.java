@@ -0,0 +1,131 @@
+package com.reliaquest.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final List<String> transitions = new ArrayList<>();
+
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    public void setUp() {
+        circuitBreaker = new CircuitBreaker("test", 4, 4, 0.5, Duration.ofSeconds(10), 1, clock::get);
+        circuitBreaker.onTransition((from, to) -> transitions.add(from + "->" + to));
+    }
+
+    @Test
+    public void testStaysClosedBelowMinimumCalls() {
+        fail();
+        fail();
+        fail();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquirePermission()).isNotNull();
+    }
+
+    @Test
+    public void testOpensWhenFailureRateReachesThreshold() {
+        succeed();
+        succeed();
+        fail();
+        fail();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isNull();
+        assertThat(transitions).containsExactly("CLOSED->OPEN");
+    }
+
+    @Test
+    public void testHalfOpenTrialClosesOnSuccess() {
+        openBreaker();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        CircuitBreaker.Permit trial = circuitBreaker.tryAcquirePermission();
+        assertThat(trial).isNotNull();
+        assertThat(circuitBreaker.tryAcquirePermission()).isNull();
+        circuitBreaker.onSuccess(trial);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(transitions).containsExactly("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED");
+    }
+
+    @Test
+    public void testHalfOpenTrialReopensOnFailure() {
+        openBreaker();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        CircuitBreaker.Permit trial = circuitBreaker.tryAcquirePermission();
+        assertThat(trial).isNotNull();
+        circuitBreaker.onFailure(trial);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.remainingOpenDuration()).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    @Test
+    public void testCallAdmittedWhileClosedDoesNotCountAsHalfOpenTrial() {
+        CircuitBreaker.Permit slow = circuitBreaker.tryAcquirePermission();
+        openBreaker();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        CircuitBreaker.Permit trial = circuitBreaker.tryAcquirePermission();
+
+        circuitBreaker.onSuccess(slow);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isNull();
+        circuitBreaker.onSuccess(trial);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void testCallAdmittedWhileClosedDoesNotReopenHalfOpenBreaker() {
+        CircuitBreaker.Permit slow = circuitBreaker.tryAcquirePermission();
+        openBreaker();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        circuitBreaker.tryAcquirePermission();
+
+        circuitBreaker.onFailure(slow);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    public void testOutcomesFromBeforeClosingDoNotCountInTheNewWindow() {
+        CircuitBreaker.Permit slow = circuitBreaker.tryAcquirePermission();
+        openBreaker();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        circuitBreaker.onSuccess(circuitBreaker.tryAcquirePermission());
+
+        circuitBreaker.onFailure(slow);
+        fail();
+        fail();
+        succeed();
+
+        assertThat(circuitBreaker.failureRate()).isEqualTo(2.0 / 3);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private void openBreaker() {
+        for (int i = 0; i < 4; i++) {
+            fail();
+        }
+    }
+
+    private void succeed() {
+        circuitBreaker.onSuccess(circuitBreaker.tryAcquirePermission());
+    }
+
+    private void fail() {
+        circuitBreaker.onFailure(circuitBreaker.tryAcquirePermission());
+    }
+}
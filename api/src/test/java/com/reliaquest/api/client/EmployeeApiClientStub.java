@@ -0,0 +1,48 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeDTO;
+import com.reliaquest.common.filter.EmployeeFilter;
+import java.util.List;
+
+/**
+ * {@link IEmployeeApiClient} whose every call fails with {@link UnsupportedOperationException}. Tests extend it and
+ * override only the calls they expect, so a method added to the interface is added here once.
+ */
+public class EmployeeApiClientStub implements IEmployeeApiClient {
+
+    @Override
+    public List<Employee> getEmployees() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<Employee> getTopEarningEmployees(int limit) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<Employee> getEmployeesByFilter(EmployeeFilter filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Employee getEmployee(String id) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Employee createEmployee(EmployeeDTO requestBody) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<Employee> createEmployees(List<EmployeeDTO> requestBodies) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Employee deleteEmployee(String id) {
+        throw new UnsupportedOperationException();
+    }
+}
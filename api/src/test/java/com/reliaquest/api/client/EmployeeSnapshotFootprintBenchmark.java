@@ -0,0 +1,95 @@
+package com.reliaquest.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.model.Employee;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Function;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Measures the heap retained by a full-list snapshot of 1M employees, kept as the decoded employees plus an id map
+ * (as snapshots were before) and as an {@link EmployeeSnapshot}. Run with {@code ./gradlew api:benchmark}.
+ */
+@Tag("benchmark")
+class EmployeeSnapshotFootprintBenchmark {
+
+    private static final int EMPLOYEES = 1_000_000;
+
+    private static final String[] LEVELS = {"Senior", "Junior", "Lead", "Chief", "Principal", "Regional", "Global"};
+    private static final String[] AREAS = {"Marketing", "Sales", "Engineering", "Finance", "Operations", "Legal"};
+    private static final String[] ROLES = {"Engineer", "Manager", "Analyst", "Consultant", "Director", "Specialist"};
+    private static final String[] NAMES = {"Tiger", "Bill", "Jill", "Ashton", "Cedric", "Airi", "Brielle", "José"};
+
+    @Test
+    public void benchmarkSnapshotFootprint() {
+        long decoded = retained(employees -> {
+            Map<String, Employee> byId = new HashMap<>(employees.size() * 2);
+            employees.forEach(employee -> byId.put(employee.getId(), employee));
+            return List.of(List.copyOf(employees), byId);
+        });
+        long compact = retained(employees -> new EmployeeSnapshot(employees, Instant.now()));
+
+        System.out.printf(
+                "snapshot of %d employees: decoded %.1f MB (%.0f B each), compact %.1f MB (%.0f B each, %.0f%%)%n",
+                EMPLOYEES,
+                decoded / 1e6,
+                (double) decoded / EMPLOYEES,
+                compact / 1e6,
+                (double) compact / EMPLOYEES,
+                100.0 * compact / decoded);
+        assertThat(compact).isLessThan(decoded);
+    }
+
+    /**
+     * @return the heap still used once the generated employees are only reachable through what {@code retain} built.
+     */
+    private static long retained(Function<List<Employee>, Object> retain) {
+        long before = usedHeap();
+        Object retained = retain.apply(employees(new Random(42)));
+        long after = usedHeap();
+        assertThat(retained).isNotNull();
+        return after - before;
+    }
+
+    private static List<Employee> employees(Random random) {
+        List<Employee> employees = new ArrayList<>(EMPLOYEES);
+        for (int i = 0; i < EMPLOYEES; i++) {
+            String first = pick(random, NAMES);
+            String last = pick(random, NAMES) + "son";
+            Employee employee = new Employee();
+            employee.setId(new UUID(random.nextLong(), random.nextLong()).toString());
+            employee.setName(first + " " + last);
+            employee.setSalary(30_000 + random.nextInt(470_000));
+            employee.setAge(16 + random.nextInt(60));
+            employee.setTitle(pick(random, LEVELS) + " " + pick(random, AREAS) + " " + pick(random, ROLES));
+            employee.setEmail(first.toLowerCase() + random.nextInt(10_000) + "@company.com");
+            employees.add(employee);
+        }
+        return employees;
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,231 @@
+package com.reliaquest.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.api.configuration.RestTemplateConfig;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+class HedgedRequestExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final CountDownLatch interrupted = new CountDownLatch(1);
+
+    private HedgedRequestExecutor executor;
+
+    @AfterEach
+    public void tearDown() {
+        RequestContext.end();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testHedgesASlowPrimaryAndInterruptsTheLoser() throws InterruptedException {
+        executor = executor(true, 1.0, Duration.ofSeconds(5));
+        RequestContext.begin(Duration.ofSeconds(5));
+        warmUp();
+
+        AtomicInteger attempts = new AtomicInteger();
+        String result = executor.executeHedged("/employees", () -> attempts.incrementAndGet() == 1 ? hang() : "hedge");
+
+        assertThat(result).isEqualTo("hedge");
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(hedgeCount("sent")).isEqualTo(1);
+        assertThat(hedgeCount("win")).isEqualTo(1);
+    }
+
+    @Test
+    public void testDoesNotHedgeWithoutBudget() {
+        executor = executor(true, 0.0, Duration.ofSeconds(5));
+        RequestContext.begin(Duration.ofSeconds(5));
+        warmUp();
+
+        AtomicInteger attempts = new AtomicInteger();
+        String result = executor.executeHedged("/employees", () -> {
+            attempts.incrementAndGet();
+            sleep(Duration.ofMillis(100));
+            return "primary";
+        });
+
+        assertThat(result).isEqualTo("primary");
+        assertThat(attempts).hasValue(1);
+        assertThat(hedgeCount("suppressed")).isEqualTo(1);
+        assertThat(hedgeCount("sent")).isZero();
+    }
+
+    @Test
+    public void testHedgeBudgetAccruesPerRequestUpToItsCap() {
+        HedgeBudget budget = new HedgeBudget(0.5, 1.5);
+
+        assertThat(budget.tryAcquire()).isFalse();
+        budget.onRequest();
+        assertThat(budget.tryAcquire()).isFalse();
+        budget.onRequest();
+        assertThat(budget.tryAcquire()).isTrue();
+        for (int i = 0; i < 10; i++) {
+            budget.onRequest();
+        }
+        assertThat(budget.tryAcquire()).isTrue();
+        assertThat(budget.tryAcquire()).isFalse();
+    }
+
+    @Test
+    public void testMissedDeadlineInterruptsTheAttempt() throws InterruptedException {
+        executor = executor(false, 0.0, Duration.ofSeconds(5));
+        RequestContext.begin(Duration.ofMillis(100));
+
+        assertThatThrownBy(() -> executor.execute("/employees", this::hang))
+                .isInstanceOf(ResourceAccessException.class)
+                .hasMessage("Deadline exceeded waiting for: /employees");
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void testAttemptTimeoutInterruptsTheAttempt() throws InterruptedException {
+        executor = executor(false, 0.0, Duration.ofMillis(100));
+        RequestContext.begin(Duration.ofSeconds(5));
+
+        assertThatThrownBy(() -> executor.executeHedged("/employees", this::hang))
+                .isInstanceOf(ResourceAccessException.class)
+                .hasMessage("Read timed out waiting for: /employees");
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void testScatterReturnsResultsInKeyOrderAndRunsTheFirstKeyOnTheCaller() {
+        executor = executor(false, 0.0, Duration.ofSeconds(5));
+        RequestContext.begin(Duration.ofSeconds(5));
+        Thread caller = Thread.currentThread();
+
+        List<String> results = executor.scatter(List.of(0, 1, 2), key -> {
+            sleep(Duration.ofMillis(20L * (3 - key)));
+            return key + (Thread.currentThread() == caller ? ":caller" : ":scatter");
+        });
+
+        assertThat(results).containsExactly("0:caller", "1:scatter", "2:scatter");
+    }
+
+    @Test
+    public void testScatterFailureCancelsTheOtherCalls() throws InterruptedException {
+        executor = executor(false, 0.0, Duration.ofSeconds(5));
+        RequestContext.begin(Duration.ofSeconds(5));
+
+        CountDownLatch started = new CountDownLatch(1);
+
+        assertThatThrownBy(() -> executor.scatter(List.of(0, 1), key -> {
+                    if (key == 1) {
+                        started.countDown();
+                        return hang();
+                    }
+                    await(started);
+                    throw new IllegalStateException("shard 0 failed");
+                }))
+                .hasMessage("shard 0 failed");
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void testScatterLeavesThePoolForAttemptsOfItsKeys() {
+        executor = executor(false, 0.0, Duration.ofSeconds(5));
+        RequestContext.begin(Duration.ofSeconds(5));
+        List<Integer> keys = IntStream.range(0, 64).boxed().toList();
+
+        List<Integer> results = executor.scatter(keys, key -> executor.execute("/shard/" + key, () -> {
+            sleep(Duration.ofMillis(50));
+            return key;
+        }));
+
+        assertThat(results).isEqualTo(keys);
+    }
+
+    @Test
+    public void testMissedDeadlineAbortsTheHttpExchange() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/slow", exchange -> {
+            sleep(Duration.ofSeconds(5));
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.setExecutor(null);
+        server.start();
+        try {
+            RestTemplate restTemplate =
+                    new RestTemplateConfig().restTemplate(new RestTemplateBuilder(), Duration.ofSeconds(1));
+            String url = "http://localhost:" + server.getAddress().getPort() + "/slow";
+            executor = executor(false, 0.0, Duration.ofSeconds(5));
+            RequestContext.begin(Duration.ofMillis(100));
+            CountDownLatch finished = new CountDownLatch(1);
+
+            assertThatThrownBy(() -> executor.execute(url, () -> {
+                        try {
+                            return restTemplate.getForObject(url, String.class);
+                        } finally {
+                            finished.countDown();
+                        }
+                    }))
+                    .isInstanceOf(ResourceAccessException.class);
+            assertThat(finished.await(1, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private HedgedRequestExecutor executor(boolean hedgingEnabled, double budgetRatio, Duration attemptTimeout) {
+        return new HedgedRequestExecutor(
+                meterRegistry, hedgingEnabled, 0.95, Duration.ofMillis(20), budgetRatio, 2, attemptTimeout);
+    }
+
+    /**
+     * Records enough fast calls for the latency percentile, and so the hedge delay, to settle at the minimum.
+     */
+    private void warmUp() {
+        for (int i = 0; i < 20; i++) {
+            executor.executeHedged("/warm-up", () -> "ok");
+        }
+    }
+
+    private double hedgeCount(String outcome) {
+        return meterRegistry.counter("employee.upstream.hedge", "outcome", outcome).count();
+    }
+
+    private String hang() {
+        try {
+            Thread.sleep(Duration.ofSeconds(10).toMillis());
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+        }
+        return "late";
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.reliaquest.api.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ShardRouterTest {
+
+    private static final List<String> SHARD_URLS = List.of("http://shard-0", "http://shard-1", "http://shard-2");
+
+    private final ShardRouter shardRouter = new ShardRouter("http://unused", SHARD_URLS);
+
+    @Test
+    public void testMintedIdsAreRoutedToTheirShard() {
+        for (String shardUrl : SHARD_URLS) {
+            String id = shardRouter.newIdFor(shardUrl);
+
+            assertThat(shardRouter.shardUrlFor(id)).isEqualTo(shardUrl);
+        }
+    }
+
+    @Test
+    public void testRejectsIdsThatAreNotUuids() {
+        assertThatThrownBy(() -> shardRouter.shardUrlFor("not-a-uuid"))
+                .isInstanceOf(InvalidEmployeeIdException.class)
+                .hasMessage("Invalid employee id: not-a-uuid");
+    }
+
+    @Test
+    public void testFallsBackToTheSingleUrlWithoutShards() {
+        ShardRouter single = new ShardRouter("http://localhost:8112/api/v1/employee", List.of());
+
+        assertThat(single.allShardUrls()).containsExactly("http://localhost:8112/api/v1/employee");
+        assertThat(single.shardUrlForCreate()).isEqualTo("http://localhost:8112/api/v1/employee");
+    }
+}
@@ -0,0 +1,105 @@
+package com.reliaquest.api.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeResponse;
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+/**
+ * Compares allocation and time per decoded employee between the previous decode path (String body, generic bean
+ * deserializer, {@code readTree} + {@code treeToValue}) and {@link EmployeeCodec}. Run with {@code ./gradlew
+ * api:benchmark}.
+ */
+@Tag("benchmark")
+class EmployeeCodecBenchmark {
+
+    private static final int EMPLOYEES = 10_000;
+
+    private final ObjectMapper baselineMapper = new ObjectMapper();
+
+    private final EmployeeCodec codec = new EmployeeCodec(new ObjectMapper(), WireFormat.JSON);
+
+    @Test
+    public void benchmarkListDecode() throws Exception {
+        byte[] body = listResponse(EMPLOYEES).getBytes(StandardCharsets.UTF_8);
+
+        double baseline = measure("list: String + bean deserializer", EMPLOYEES, 50, () -> baselineMapper.readValue(
+                new String(body, StandardCharsets.UTF_8), EmployeeResponse.class));
+        double optimized = measure("list: stream + EmployeeCodec", EMPLOYEES, 50, () -> codec.readEmployeeList(
+                new ByteArrayInputStream(body), MediaType.APPLICATION_JSON));
+
+        assertThat(optimized).isLessThan(baseline);
+    }
+
+    @Test
+    public void benchmarkSingleDecode() throws Exception {
+        byte[] body = ("{\"data\":" + employeeJson(0) + ",\"status\":\"Successfully processed request.\"}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        double baseline = measure("single: readTree + treeToValue", 1, 200_000, () -> {
+            JsonNode root = baselineMapper.readTree(new String(body, StandardCharsets.UTF_8));
+            baselineMapper.treeToValue(root.get("data"), Employee.class);
+        });
+        double optimized = measure("single: stream + EmployeeCodec", 1, 200_000, () -> codec.readEmployee(
+                new ByteArrayInputStream(body), MediaType.APPLICATION_JSON));
+
+        assertThat(optimized).isLessThan(baseline);
+    }
+
+    static double measure(String label, int employeesPerRound, int rounds, Decode decode) throws Exception {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < rounds; i++) {
+            decode.run();
+        }
+
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            decode.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        long decoded = (long) employeesPerRound * rounds;
+        double bytesPerEmployee = (double) allocated / decoded;
+        System.out.printf(
+                "%-40s %10.1f bytes/employee %10.1f ns/employee%n",
+                label, bytesPerEmployee, (double) elapsed / decoded);
+        return bytesPerEmployee;
+    }
+
+    static String listResponse(int employees) {
+        StringBuilder json = new StringBuilder("{\"data\":[");
+        for (int i = 0; i < employees; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(employeeJson(i));
+        }
+        return json.append("],\"status\":\"Successfully processed request.\"}").toString();
+    }
+
+    static String employeeJson(int i) {
+        return "{\"id\":\"" + UUID.nameUUIDFromBytes(Integer.toString(i).getBytes(StandardCharsets.UTF_8))
+                + "\",\"employee_name\":\"Employee Number " + i
+                + "\",\"employee_salary\":" + (30_000 + (i * 7919) % 470_000)
+                + ",\"employee_age\":" + (16 + i % 54)
+                + ",\"employee_title\":\"Senior Implementation Specialist\""
+                + ",\"employee_email\":\"employee" + i + "@company.com\"}";
+    }
+
+    @FunctionalInterface
+    interface Decode {
+        void run() throws Exception;
+    }
+}
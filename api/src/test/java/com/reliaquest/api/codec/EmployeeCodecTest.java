@@ -0,0 +1,65 @@
+package com.reliaquest.api.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.core.exc.StreamConstraintsException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+class EmployeeCodecTest {
+
+    @Test
+    public void testSmileResponsesAreParsedUnderTheMappersReadConstraints() throws Exception {
+        JsonFactory json = JsonFactory.builder()
+                .streamReadConstraints(StreamReadConstraints.builder().maxNestingDepth(2).build())
+                .build();
+        EmployeeCodec codec = new EmployeeCodec(new ObjectMapper(json), WireFormat.SMILE);
+        Map<String, Object> nested = Map.of("data", List.of(Map.of("employee_name", "Ann", "extra", List.of(1))));
+        byte[] smile = new ObjectMapper(new SmileFactory()).writeValueAsBytes(nested);
+        byte[] text = new ObjectMapper().writeValueAsBytes(nested);
+
+        assertThatThrownBy(() -> codec.readEmployeeList(new ByteArrayInputStream(text), MediaType.APPLICATION_JSON))
+                .isInstanceOf(StreamConstraintsException.class);
+        assertThatThrownBy(() -> codec.readEmployeeList(new ByteArrayInputStream(smile), EmployeeCodec.SMILE))
+                .isInstanceOf(StreamConstraintsException.class);
+    }
+
+    @Test
+    public void testReadsJsonAndSmileAlike() throws Exception {
+        EmployeeCodec codec = new EmployeeCodec(new ObjectMapper(), WireFormat.SMILE);
+        Map<String, Object> response = Map.of("data", Map.of("employee_name", "Ann", "employee_salary", 100));
+        byte[] smile = new ObjectMapper(new SmileFactory()).writeValueAsBytes(response);
+        byte[] text = new ObjectMapper().writeValueAsString(response).getBytes(StandardCharsets.UTF_8);
+
+        assertThat(codec.readEmployee(new ByteArrayInputStream(smile), EmployeeCodec.SMILE))
+                .usingRecursiveComparison()
+                .isEqualTo(codec.readEmployee(new ByteArrayInputStream(text), MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    public void testReadsBooleanDataPastOtherFields() throws Exception {
+        EmployeeCodec codec = new EmployeeCodec(new ObjectMapper(), WireFormat.JSON);
+
+        assertThat(codec.readBooleanData(
+                        json("{\"status\":{\"detail\":[\"data\",false]},\"data\":true}"), MediaType.APPLICATION_JSON))
+                .isTrue();
+        assertThat(codec.readBooleanData(json("{\"data\":false}"), MediaType.APPLICATION_JSON))
+                .isFalse();
+        assertThat(codec.readBooleanData(json("{\"status\":\"ok\"}"), MediaType.APPLICATION_JSON))
+                .isFalse();
+        assertThat(codec.readBooleanData(json(""), MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    private static ByteArrayInputStream json(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
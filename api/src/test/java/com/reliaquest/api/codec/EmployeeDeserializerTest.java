@@ -0,0 +1,132 @@
+package com.reliaquest.api.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.api.model.Employee;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+class EmployeeDeserializerTest {
+
+    private final EmployeeCodec codec = new EmployeeCodec(new ObjectMapper(), WireFormat.SMILE);
+
+    @Test
+    public void testReadsEveryField() throws Exception {
+        Employee employee = readJson("{\"id\":\"4a3a170b-22cd-4ac2-aad1-9bb5b34a1507\",\"employee_name\":\"Ann\""
+                + ",\"employee_salary\":120000,\"employee_age\":41,\"employee_title\":\"Engineer\""
+                + ",\"employee_email\":\"ann@company.com\"}");
+
+        assertThat(employee.getId()).isEqualTo("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507");
+        assertThat(employee.getName()).isEqualTo("Ann");
+        assertThat(employee.getSalary()).isEqualTo(120_000);
+        assertThat(employee.getAge()).isEqualTo(41);
+        assertThat(employee.getTitle()).isEqualTo("Engineer");
+        assertThat(employee.getEmail()).isEqualTo("ann@company.com");
+    }
+
+    @Test
+    public void testNullsReadAsNullTextAndZeroNumbers() throws Exception {
+        Employee employee = readJson("{\"id\":null,\"employee_name\":null,\"employee_salary\":null"
+                + ",\"employee_age\":null,\"employee_title\":null,\"employee_email\":null}");
+
+        assertThat(employee).usingRecursiveComparison().isEqualTo(new Employee());
+    }
+
+    @Test
+    public void testMissingFieldsKeepTheirDefaults() throws Exception {
+        Employee employee = readJson("{\"employee_name\":\"Ann\"}");
+
+        assertThat(employee.getName()).isEqualTo("Ann");
+        assertThat(employee.getId()).isNull();
+        assertThat(employee.getSalary()).isZero();
+        assertThat(employee.getAge()).isZero();
+        assertThat(employee.getTitle()).isNull();
+        assertThat(employee.getEmail()).isNull();
+        assertThat(readJson("{}")).usingRecursiveComparison().isEqualTo(new Employee());
+    }
+
+    @Test
+    public void testUnknownFieldsAreSkippedWithTheirChildren() throws Exception {
+        List<Employee> employees = codec.readEmployeeList(
+                json("{\"data\":[{\"nested\":{\"employee_name\":\"Wrong\",\"list\":[1,{\"id\":\"x\"}]}"
+                        + ",\"employee_name\":\"Ann\",\"extra\":[\"employee_age\",7],\"employee_age\":30}"
+                        + ",{\"employee_name\":\"Bob\"}],\"status\":\"ok\"}"),
+                MediaType.APPLICATION_JSON);
+
+        assertThat(employees).extracting(Employee::getName).containsExactly("Ann", "Bob");
+        assertThat(employees).extracting(Employee::getAge).containsExactly(30, 0);
+    }
+
+    @Test
+    public void testReadsNumericStringsAsNumbers() throws Exception {
+        Employee employee = readJson("{\"employee_salary\":\" 120000\",\"employee_age\":\"41\"}");
+
+        assertThat(employee.getSalary()).isEqualTo(120_000);
+        assertThat(employee.getAge()).isEqualTo(41);
+    }
+
+    @Test
+    public void testRejectsNumbersThatAreNotIntegers() {
+        assertThatThrownBy(() -> readJson("{\"employee_salary\":\"abc\"}"))
+                .isInstanceOf(MismatchedInputException.class)
+                .hasMessageContaining("abc");
+        assertThatThrownBy(() -> readJson("{\"employee_age\":true}")).isInstanceOf(MismatchedInputException.class);
+        assertThatThrownBy(() -> readJson("{\"employee_salary\":{\"amount\":1}}"))
+                .isInstanceOf(MismatchedInputException.class);
+    }
+
+    @Test
+    public void testRejectsNestedValuesForKnownFieldsInsteadOfReadingTheirFields() {
+        assertThatThrownBy(() -> readJson("{\"employee_name\":{\"employee_name\":\"Wrong\",\"id\":\"x\"}}"))
+                .isInstanceOf(MismatchedInputException.class);
+        assertThatThrownBy(() -> readJson("{\"employee_title\":[\"Engineer\"],\"employee_email\":\"a@b.c\"}"))
+                .isInstanceOf(MismatchedInputException.class);
+        assertThatThrownBy(() -> readJson("{\"id\":{\"employee_age\":3}}"))
+                .isInstanceOf(MismatchedInputException.class);
+    }
+
+    @Test
+    public void testRejectsARecordThatIsNotAnObject() {
+        assertThatThrownBy(() -> codec.readEmployeeList(json("{\"data\":[\"Ann\"]}"), MediaType.APPLICATION_JSON))
+                .isInstanceOf(MismatchedInputException.class);
+    }
+
+    @Test
+    public void testSmileBinaryIdsDecodeToCanonicalText() throws Exception {
+        UUID id = UUID.randomUUID();
+        byte[] smile = new ObjectMapper(new SmileFactory())
+                .writeValueAsBytes(Map.of("data", List.of(Map.of("id", id, "employee_name", "Ann"))));
+
+        List<Employee> employees = codec.readEmployeeList(new ByteArrayInputStream(smile), EmployeeCodec.SMILE);
+
+        assertThat(employees).extracting(Employee::getId).containsExactly(id.toString());
+        assertThat(employees).extracting(Employee::getName).containsExactly("Ann");
+    }
+
+    @Test
+    public void testRejectsSmileBinaryIdsOfTheWrongLength() throws Exception {
+        byte[] smile = new ObjectMapper(new SmileFactory())
+                .writeValueAsBytes(Map.of("data", Map.of("id", new byte[] {1, 2, 3})));
+
+        assertThatThrownBy(() -> codec.readEmployee(new ByteArrayInputStream(smile), EmployeeCodec.SMILE))
+                .isInstanceOf(MismatchedInputException.class)
+                .hasMessageContaining("16-byte");
+    }
+
+    private Employee readJson(String record) throws Exception {
+        return codec.readEmployee(json("{\"data\":" + record + "}"), MediaType.APPLICATION_JSON);
+    }
+
+    private static ByteArrayInputStream json(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
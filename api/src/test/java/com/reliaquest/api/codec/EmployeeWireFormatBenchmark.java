@@ -0,0 +1,71 @@
+package com.reliaquest.api.codec;
+
+import static com.reliaquest.api.codec.EmployeeCodecBenchmark.measure;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+/**
+ * Compares payload size and streaming decode cost of the same list response encoded as JSON and as Smile, the way the
+ * mock employee API writes them. Run with {@code ./gradlew api:benchmark}.
+ */
+@Tag("benchmark")
+class EmployeeWireFormatBenchmark {
+
+    private static final int EMPLOYEES = 10_000;
+
+    private final EmployeeCodec codec = new EmployeeCodec(new ObjectMapper(), WireFormat.SMILE);
+
+    @Test
+    public void benchmarkListDecode() throws Exception {
+        Map<String, Object> response = listResponse(EMPLOYEES);
+        byte[] json = new ObjectMapper().writeValueAsBytes(response);
+        byte[] smile = new ObjectMapper(new SmileFactory()).writeValueAsBytes(response);
+
+        System.out.printf(
+                "payload for %d employees: json %d bytes, smile %d bytes (%.0f%%)%n",
+                EMPLOYEES, json.length, smile.length, 100.0 * smile.length / json.length);
+        assertThat(codec.readEmployeeList(new ByteArrayInputStream(smile), EmployeeCodec.SMILE))
+                .containsExactlyElementsOf(codec.readEmployeeList(new ByteArrayInputStream(json), null));
+
+        measure("list: streamed json", EMPLOYEES, 50, () -> codec.readEmployeeList(
+                new ByteArrayInputStream(json), MediaType.APPLICATION_JSON));
+        measure("list: streamed smile", EMPLOYEES, 50, () -> codec.readEmployeeList(
+                new ByteArrayInputStream(smile), EmployeeCodec.SMILE));
+
+        assertThat(smile.length).isLessThan(json.length);
+    }
+
+    private static Map<String, Object> listResponse(int employees) {
+        List<Map<String, Object>> data = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            Map<String, Object> employee = new LinkedHashMap<>();
+            employee.put("id", id(i));
+            employee.put("employee_name", "Employee Number " + i);
+            employee.put("employee_salary", 30_000 + (i * 7919) % 470_000);
+            employee.put("employee_age", 16 + i % 54);
+            employee.put("employee_title", "Senior Implementation Specialist");
+            employee.put("employee_email", "employee" + i + "@company.com");
+            data.add(employee);
+        }
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("data", data);
+        response.put("status", "Successfully processed request.");
+        return response;
+    }
+
+    private static UUID id(int i) {
+        return UUID.nameUUIDFromBytes(Integer.toString(i).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,109 @@
+package com.reliaquest.api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.EmployeePrefetcher;
+import com.reliaquest.api.service.AsyncEmployeeCreateService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class AsyncEmployeeControllerTest {
+
+    private static final String EMPLOYEE =
+            "{\"name\": \"Ann\", \"salary\": 50000, \"age\": 30, \"title\": \"Engineer\"}";
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setUp() {
+        // Never started, so accepted creates stay queued and a second one finds the queue full.
+        AsyncEmployeeCreateService service = new AsyncEmployeeCreateService(
+                null,
+                disabledPrefetcher(),
+                new SimpleMeterRegistry(),
+                1,
+                10,
+                Duration.ofMillis(200),
+                3,
+                Duration.ofSeconds(1),
+                Duration.ofMinutes(10),
+                Duration.ofSeconds(5));
+        mockMvc = MockMvcBuilders.standaloneSetup(new AsyncEmployeeController(service, Duration.ofSeconds(2)))
+                .build();
+    }
+
+    @Test
+    public void testAcceptsCreateWithTrackingLocation() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(post("/api/v1/employee/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(EMPLOYEE))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.state").value("PENDING"))
+                .andReturn()
+                .getResponse();
+        String trackingId = new ObjectMapper()
+                .readTree(response.getContentAsString())
+                .get("trackingId")
+                .asText();
+
+        assertThat(response.getHeader(HttpHeaders.LOCATION)).endsWith("/api/v1/employee/async/" + trackingId);
+        mockMvc.perform(get("/api/v1/employee/async/" + trackingId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.trackingId").value(trackingId))
+                .andExpect(jsonPath("$.state").value("PENDING"));
+    }
+
+    @Test
+    public void testRefusesWithRetryAfterWhenTheQueueIsFull() throws Exception {
+        mockMvc.perform(post("/api/v1/employee/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(EMPLOYEE))
+                .andExpect(status().isAccepted());
+
+        mockMvc.perform(post("/api/v1/employee/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(EMPLOYEE))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"));
+    }
+
+    @Test
+    public void testRejectsInvalidEmployees() throws Exception {
+        mockMvc.perform(post("/api/v1/employee/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"\", \"salary\": 0, \"age\": 12, \"title\": \"Engineer\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testUnknownTrackingIdIsNotFound() throws Exception {
+        mockMvc.perform(get("/api/v1/employee/async/" + UUID.randomUUID())).andExpect(status().isNotFound());
+    }
+
+    private static EmployeePrefetcher disabledPrefetcher() {
+        return new EmployeePrefetcher(
+                null,
+                new SimpleMeterRegistry(),
+                false,
+                Duration.ofMinutes(1),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(2),
+                Duration.ofSeconds(10),
+                3,
+                Duration.ofMinutes(1));
+    }
+}
@@ -0,0 +1,269 @@
+package com.reliaquest.api.controller;
+
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.cache.EmployeePrefetcher;
+import com.reliaquest.api.client.CircuitBreakers;
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.client.HedgedRequestExecutor;
+import com.reliaquest.api.client.ShardRouter;
+import com.reliaquest.api.codec.EmployeeCodec;
+import com.reliaquest.api.codec.WireFormat;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.web.RequestDeadlineInterceptor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.client.match.MockRestRequestMatchers;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.client.RestTemplate;
+
+class EmployeeControllerTest {
+
+    private static final String SHARD_URL = "http://localhost:8112/api/v1/employee";
+
+    private static final String OTHER_SHARD_URL = "http://localhost:8113/api/v1/employee";
+
+    private static final String ID = "5255f1a5-f9f7-4be5-829a-134bde088d17";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private MockRestServiceServer upstream;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setUp() {
+        setUp(List.of());
+    }
+
+    /**
+     * Routes to {@code shardUrls}, or to {@link #SHARD_URL} alone when empty. Shards are called in parallel, so several
+     * of them are expected in any order.
+     */
+    private void setUp(List<String> shardUrls) {
+        RestTemplate restTemplate = new RestTemplate();
+        upstream = MockRestServiceServer.bindTo(restTemplate).ignoreExpectOrder(shardUrls.size() > 1).build();
+        HedgedRequestExecutor requestExecutor = new HedgedRequestExecutor(
+                meterRegistry, false, 0.95, Duration.ofMillis(50), 0.1, 2, Duration.ofSeconds(5));
+        EmployeeCodec employeeCodec = new EmployeeCodec(Jackson2ObjectMapperBuilder.json().build(), WireFormat.JSON);
+        EmployeeApiClient employeeApiClient = new EmployeeApiClient(
+                restTemplate,
+                requestExecutor,
+                new CircuitBreakers(meterRegistry, 20, 5, 0.5, Duration.ofSeconds(30), 1),
+                new ShardRouter(SHARD_URL, shardUrls),
+                employeeCodec,
+                meterRegistry);
+        EmployeePrefetcher employeePrefetcher = new EmployeePrefetcher(
+                employeeApiClient,
+                meterRegistry,
+                false,
+                Duration.ofMinutes(1),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(2),
+                Duration.ofSeconds(10),
+                3,
+                Duration.ofMinutes(1));
+        EmployeeService employeeService = new EmployeeService(
+                employeeApiClient,
+                new StaticListableBeanFactory().getBeanProvider(EmployeeCache.class),
+                employeePrefetcher);
+        mockMvc = MockMvcBuilders.standaloneSetup(new EmployeeController(employeeService, employeeCodec))
+                .setControllerAdvice(new EmployeeControllerAdvice())
+                .addInterceptors(new RequestDeadlineInterceptor(Duration.ofSeconds(3), Duration.ofSeconds(10)))
+                .build();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        upstream.verify();
+    }
+
+    @Test
+    public void testServesRetainedListMarkedStaleWhenUpstreamFails() throws Exception {
+        upstream.expect(requestTo(SHARD_URL))
+                .andRespond(withSuccess("{\"data\": [" + employee(ID, "Ann") + "]}", MediaType.APPLICATION_JSON));
+        upstream.expect(requestTo(SHARD_URL)).andRespond(withServerError());
+
+        mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.WARNING))
+                .andExpect(header().doesNotExist(EmployeeController.STALE_AS_OF_HEADER));
+        mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].employee_name").value("Ann"))
+                .andExpect(header().string(HttpHeaders.WARNING, "110 - \"Response is Stale\""))
+                .andExpect(header().exists(EmployeeController.STALE_AS_OF_HEADER));
+    }
+
+    @Test
+    public void testAnswersServiceUnavailableWhenNothingIsRetained() throws Exception {
+        upstream.expect(requestTo(SHARD_URL)).andRespond(withServerError());
+
+        mockMvc.perform(get("/api/v1/employee"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+    }
+
+    @Test
+    public void testRetryAfterIsTheTimeUntilTheOpenCircuitAdmitsATrial() throws Exception {
+        upstream.expect(ExpectedCount.times(5), requestTo(SHARD_URL + "/" + ID)).andRespond(withServerError());
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(get("/api/v1/employee/" + ID)).andExpect(status().isServiceUnavailable());
+        }
+
+        mockMvc.perform(get("/api/v1/employee/" + ID))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "30"));
+    }
+
+    @Test
+    public void testRejectsIdsThatAreNotUuidsWithoutCallingUpstream() throws Exception {
+        mockMvc.perform(get("/api/v1/employee/not-a-uuid")).andExpect(status().isBadRequest());
+        mockMvc.perform(delete("/api/v1/employee/not-a-uuid")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testDeletesByIdInOneUpstreamCall() throws Exception {
+        upstream.expect(requestTo(SHARD_URL + "/" + ID))
+                .andExpect(method(HttpMethod.DELETE))
+                .andRespond(withSuccess("{\"data\": " + employee(ID, "Ann") + "}", MediaType.APPLICATION_JSON));
+
+        mockMvc.perform(delete("/api/v1/employee/" + ID))
+                .andExpect(status().isOk())
+                .andExpect(content().string("Ann"));
+    }
+
+    @Test
+    public void testDeleteOfAnUnknownIdIsNotFound() throws Exception {
+        upstream.expect(requestTo(SHARD_URL + "/" + ID))
+                .andExpect(method(HttpMethod.DELETE))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+        mockMvc.perform(delete("/api/v1/employee/" + ID)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testDeleteFallsBackToDeleteByNameWhenTheRouteIsMissing() throws Exception {
+        upstream.expect(requestTo(SHARD_URL + "/" + ID))
+                .andExpect(method(HttpMethod.DELETE))
+                .andRespond(withStatus(HttpStatus.METHOD_NOT_ALLOWED));
+        upstream.expect(requestTo(SHARD_URL + "/" + ID))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess("{\"data\": " + employee(ID, "Ann") + "}", MediaType.APPLICATION_JSON));
+        upstream.expect(requestTo(SHARD_URL))
+                .andExpect(method(HttpMethod.DELETE))
+                .andExpect(MockRestRequestMatchers.content().json("{\"name\": \"Ann\"}"))
+                .andRespond(withSuccess("{\"data\": true}", MediaType.APPLICATION_JSON));
+
+        mockMvc.perform(delete("/api/v1/employee/" + ID))
+                .andExpect(status().isOk())
+                .andExpect(content().string("Ann"));
+    }
+
+    @Test
+    public void testDeleteByNameFallbackTakesTheNameFromTheRetainedList() throws Exception {
+        upstream.expect(requestTo(SHARD_URL))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(list(employee(ID, "Ann")), MediaType.APPLICATION_JSON));
+        upstream.expect(requestTo(SHARD_URL + "/" + ID))
+                .andExpect(method(HttpMethod.DELETE))
+                .andRespond(withStatus(HttpStatus.METHOD_NOT_ALLOWED));
+        upstream.expect(requestTo(SHARD_URL))
+                .andExpect(method(HttpMethod.DELETE))
+                .andExpect(MockRestRequestMatchers.content().json("{\"name\": \"Ann\"}"))
+                .andRespond(withSuccess("{\"data\": false}", MediaType.APPLICATION_JSON));
+
+        mockMvc.perform(get("/api/v1/employee")).andExpect(status().isOk());
+        mockMvc.perform(delete("/api/v1/employee/" + ID)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testFilterMergesTheShardsInTheFiltersOrder() throws Exception {
+        setUp(List.of(SHARD_URL, OTHER_SHARD_URL));
+        String query = "/filter?sort=salary&order=desc&minAge=30&limit=3";
+        upstream.expect(requestTo(SHARD_URL + query))
+                .andRespond(withSuccess(
+                        list(employee(id(1), "Ann", 90_000, 40), employee(id(2), "Bob", 60_000, 35)),
+                        MediaType.APPLICATION_JSON));
+        upstream.expect(requestTo(OTHER_SHARD_URL + query))
+                .andRespond(withSuccess(
+                        list(employee(id(3), "Cid", 80_000, 31), employee(id(4), "Dee", 70_000, 50)),
+                        MediaType.APPLICATION_JSON));
+
+        mockMvc.perform(get("/api/v1/employee/filter?minAge=30&sort=salary&order=desc&limit=3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].employee_name").value("Ann"))
+                .andExpect(jsonPath("$[1].employee_name").value("Cid"))
+                .andExpect(jsonPath("$[2].employee_name").value("Dee"));
+    }
+
+    @Test
+    public void testFilterFiltersTheFullListOfShardsWithoutTheRoute() throws Exception {
+        setUp(List.of(SHARD_URL, OTHER_SHARD_URL));
+        String query = "/filter?sort=age&order=asc&maxSalary=75000";
+        upstream.expect(requestTo(SHARD_URL + query))
+                .andRespond(withSuccess(list(employee(id(1), "Ann", 60_000, 40)), MediaType.APPLICATION_JSON));
+        upstream.expect(requestTo(OTHER_SHARD_URL + query)).andRespond(withStatus(HttpStatus.NOT_FOUND));
+        upstream.expect(requestTo(OTHER_SHARD_URL))
+                .andRespond(withSuccess(
+                        list(
+                                employee(id(2), "Bob", 90_000, 20),
+                                employee(id(3), "Cid", 70_000, 50),
+                                employee(id(4), "Dee", 50_000, 30)),
+                        MediaType.APPLICATION_JSON));
+
+        mockMvc.perform(get("/api/v1/employee/filter?maxSalary=75000&sort=age"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].employee_name").value(contains("Dee", "Ann", "Cid")));
+    }
+
+    @Test
+    public void testFilterRejectsUnknownSortFieldsWithoutCallingUpstream() throws Exception {
+        mockMvc.perform(get("/api/v1/employee/filter?sort=name")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/employee/filter?order=sideways")).andExpect(status().isBadRequest());
+    }
+
+    private static String id(int n) {
+        return String.format("00000000-0000-0000-0000-%012d", n);
+    }
+
+    private static String list(String... employees) {
+        return "{\"data\": [" + String.join(",", employees) + "]}";
+    }
+
+    private static String employee(String id, String name) {
+        return employee(id, name, 50_000, 30);
+    }
+
+    private static String employee(String id, String name, int salary, int age) {
+        return "{\"id\": \"" + id + "\", \"employee_name\": \"" + name + "\", \"employee_salary\": " + salary
+                + ", \"employee_age\": " + age + ", \"employee_title\": \"Engineer\", "
+                + "\"employee_email\": \"ann@company.com\"}";
+    }
+}
@@ -0,0 +1,172 @@
+package com.reliaquest.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.cache.EmployeePrefetcher;
+import com.reliaquest.api.client.EmployeeApiClientStub;
+import com.reliaquest.api.client.IEmployeeApiClient;
+import com.reliaquest.api.client.UpstreamUnavailableException;
+import com.reliaquest.api.model.CreateStatus;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares sustained create throughput against an upstream that admits {@value #UPSTREAM_REQUESTS_PER_SECOND}
+ * requests per second: one upstream call per create versus queued creates flushed in batches. Run with
+ * {@code ./gradlew api:benchmark}.
+ */
+@Tag("benchmark")
+class AsyncCreateBenchmark {
+
+    private static final int UPSTREAM_REQUESTS_PER_SECOND = 20;
+    private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(10);
+    private static final Duration RUN = Duration.ofSeconds(3);
+    private static final int CLIENTS = 8;
+
+    @Test
+    public void benchmarkCreateThroughput() throws Exception {
+        double sync = measureSync(new RateLimitedClient());
+        double async = measureAsync(new RateLimitedClient());
+
+        System.out.printf(
+                "creates/sec at %d upstream requests/sec: sync %.0f, async batched %.0f%n",
+                UPSTREAM_REQUESTS_PER_SECOND, sync, async);
+        assertThat(async).isGreaterThan(sync * 5);
+    }
+
+    private double measureSync(RateLimitedClient client) throws InterruptedException {
+        AtomicInteger created = new AtomicInteger();
+        long end = System.nanoTime() + RUN.toNanos();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            clients.execute(() -> {
+                while (System.nanoTime() < end) {
+                    try {
+                        client.createEmployee(employeeInput());
+                        created.incrementAndGet();
+                    } catch (UpstreamUnavailableException e) {
+                        sleep(e.getRetryAfter());
+                    }
+                }
+            });
+        }
+        clients.shutdown();
+        clients.awaitTermination(RUN.toSeconds() + 5, TimeUnit.SECONDS);
+        return created.get() / (double) RUN.toSeconds();
+    }
+
+    private double measureAsync(RateLimitedClient client) throws InterruptedException {
+        AsyncEmployeeCreateService service = new AsyncEmployeeCreateService(
+                client,
+                disabledPrefetcher(client),
+                new SimpleMeterRegistry(),
+                1_000,
+                100,
+                Duration.ofMillis(20),
+                5,
+                Duration.ofMillis(50),
+                Duration.ofMinutes(1),
+                Duration.ofSeconds(1));
+        service.start();
+        List<CreateStatus> accepted = new ArrayList<>();
+        long start = System.nanoTime();
+        long end = start + RUN.toNanos();
+        try {
+            while (System.nanoTime() < end) {
+                service.submit(employeeInput())
+                        .ifPresentOrElse(accepted::add, () -> sleep(Duration.ofMillis(1)));
+            }
+        } finally {
+            service.stop();
+        }
+        long created = accepted.stream()
+                .filter(status -> service.getStatus(status.getTrackingId())
+                        .map(current -> current.getState() == CreateStatus.State.CREATED)
+                        .orElse(false))
+                .count();
+        return created / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static EmployeePrefetcher disabledPrefetcher(IEmployeeApiClient client) {
+        return new EmployeePrefetcher(
+                client,
+                new SimpleMeterRegistry(),
+                false,
+                Duration.ofMinutes(1),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(2),
+                Duration.ofSeconds(10),
+                3,
+                Duration.ofMinutes(1));
+    }
+
+    private static EmployeeDTO employeeInput() {
+        EmployeeDTO input = new EmployeeDTO();
+        input.setEmployee_name("Benchmark Employee");
+        input.setEmployee_salary(50_000);
+        input.setEmployee_age(30);
+        input.setEmployee_title("Engineer");
+        input.setEmployee_email("benchmark@company.com");
+        return input;
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Admits one request per {@code 1 / UPSTREAM_REQUESTS_PER_SECOND} and answers the rest like a {@code 429}.
+     */
+    private static class RateLimitedClient extends EmployeeApiClientStub {
+        private static final long INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1) / UPSTREAM_REQUESTS_PER_SECOND;
+
+        private final AtomicLong nextPermit = new AtomicLong(System.nanoTime());
+
+        @Override
+        public Employee createEmployee(EmployeeDTO requestBody) {
+            acquire();
+            return employee(requestBody);
+        }
+
+        @Override
+        public List<Employee> createEmployees(List<EmployeeDTO> requestBodies) {
+            acquire();
+            return requestBodies.stream().map(this::employee).toList();
+        }
+
+        private void acquire() {
+            long now = System.nanoTime();
+            long permit = nextPermit.get();
+            if (now < permit || !nextPermit.compareAndSet(permit, Math.max(permit, now) + INTERVAL_NANOS)) {
+                throw new UpstreamUnavailableException("Too many requests", Duration.ofMillis(50));
+            }
+            sleep(UPSTREAM_LATENCY);
+        }
+
+        private Employee employee(EmployeeDTO requestBody) {
+            Employee employee = new Employee();
+            employee.setId(requestBody.getId());
+            employee.setName(requestBody.getEmployee_name());
+            employee.setSalary(requestBody.getEmployee_salary());
+            employee.setAge(requestBody.getEmployee_age());
+            employee.setTitle(requestBody.getEmployee_title());
+            employee.setEmail(requestBody.getEmployee_email());
+            return employee;
+        }
+    }
+}
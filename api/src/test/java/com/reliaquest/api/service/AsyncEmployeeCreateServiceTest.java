@@ -0,0 +1,275 @@
+package com.reliaquest.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.cache.EmployeePrefetcher;
+import com.reliaquest.api.client.EmployeeApiClientStub;
+import com.reliaquest.api.client.PartialBatchCreateException;
+import com.reliaquest.api.client.UpstreamUnavailableException;
+import com.reliaquest.api.model.CreateStatus;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncEmployeeCreateServiceTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final List<List<EmployeeDTO>> batches = new CopyOnWriteArrayList<>();
+
+    private final List<Long> attemptTimes = new CopyOnWriteArrayList<>();
+
+    private final AtomicInteger listFetches = new AtomicInteger();
+
+    private volatile Function<List<EmployeeDTO>, List<Employee>> upstream = AsyncEmployeeCreateServiceTest::created;
+
+    private EmployeePrefetcher prefetcher = prefetcher(false);
+
+    private AsyncEmployeeCreateService service;
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        if (service != null) {
+            service.stop();
+        }
+    }
+
+    @Test
+    public void testCreatesQueuedEmployeesInOneBatch() {
+        service = service(10, 3, Duration.ofSeconds(1), 3, Duration.ofMinutes(1));
+        service.start();
+
+        List<CreateStatus> accepted = List.of(submit("Ann"), submit("Bob"), submit("Cid"));
+        accepted.forEach(status -> assertThat(status.getState()).isEqualTo(CreateStatus.State.PENDING));
+
+        List<CreateStatus> finished = accepted.stream()
+                .map(status -> await(status.getTrackingId(), CreateStatus.State.CREATED))
+                .toList();
+        assertThat(finished)
+                .extracting(status -> status.getEmployee().getName())
+                .containsExactly("Ann", "Bob", "Cid");
+        assertThat(batches).hasSize(1);
+        assertThat(meterRegistry.counter("api.async-create", "outcome", "created").count()).isEqualTo(3);
+    }
+
+    @Test
+    public void testRefusesCreatesOnceTheQueueIsFull() {
+        // Not started, so nothing drains the queue.
+        service = service(2, 10, Duration.ofMillis(10), 3, Duration.ofMinutes(1));
+
+        assertThat(service.submit(employee("Ann"))).isPresent();
+        assertThat(service.submit(employee("Bob"))).isPresent();
+        assertThat(service.submit(employee("Cid"))).isEmpty();
+
+        assertThat(service.getQueueSize()).isEqualTo(2);
+        assertThat(meterRegistry.counter("api.async-create", "outcome", "rejected").count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testRetriesWithBackoffAndReplaysTheSameIds() {
+        upstream = batch -> {
+            if (batches.size() < 3) {
+                throw new UpstreamUnavailableException("down", Duration.ZERO);
+            }
+            return created(batch);
+        };
+        service = service(10, 1, Duration.ofMillis(50), 5, Duration.ofMinutes(1));
+        service.start();
+
+        CreateStatus status = await(submit("Ann").getTrackingId(), CreateStatus.State.CREATED);
+
+        assertThat(status.getEmployee().getName()).isEqualTo("Ann");
+        assertThat(batches).hasSize(3);
+        assertThat(batches).extracting(batch -> batch.get(0).getId()).containsOnly(status.getEmployee().getId());
+        // Exponential backoff: 50ms, then 100ms.
+        assertThat(attemptTimes.get(1) - attemptTimes.get(0)).isGreaterThanOrEqualTo(millis(50));
+        assertThat(attemptTimes.get(2) - attemptTimes.get(1)).isGreaterThanOrEqualTo(millis(100));
+    }
+
+    @Test
+    public void testFailsAfterMaxAttempts() {
+        upstream = batch -> {
+            throw new UpstreamUnavailableException("Mock employee API unavailable", Duration.ZERO);
+        };
+        service = service(10, 1, Duration.ofMillis(1), 3, Duration.ofMinutes(1));
+        service.start();
+
+        CreateStatus status = await(submit("Ann").getTrackingId(), CreateStatus.State.FAILED);
+
+        assertThat(status.getError()).isEqualTo("Mock employee API unavailable");
+        assertThat(batches).hasSize(3);
+    }
+
+    @Test
+    public void testRejectedBatchFailsEveryCreateWithoutRetrying() {
+        upstream = batch -> null;
+        service = service(10, 2, Duration.ofSeconds(1), 3, Duration.ofMinutes(1));
+        service.start();
+
+        CreateStatus first = submit("Ann");
+        CreateStatus second = submit("Bob");
+
+        assertThat(await(first.getTrackingId(), CreateStatus.State.FAILED).getError())
+                .isEqualTo("Upstream rejected the batch");
+        await(second.getTrackingId(), CreateStatus.State.FAILED);
+        assertThat(batches).hasSize(1);
+    }
+
+    @Test
+    public void testRetriesOnlyTheCreatesNeverSentAfterAPartialBatch() {
+        upstream = batch -> {
+            if (batches.size() == 1) {
+                throw new PartialBatchCreateException(
+                        created(batch.subList(0, 1)), new UpstreamUnavailableException("down", Duration.ZERO));
+            }
+            return created(batch);
+        };
+        service = service(10, 3, Duration.ofSeconds(1), 3, Duration.ofMinutes(1));
+        service.start();
+
+        CreateStatus first = submit("Ann");
+        CreateStatus second = submit("Bob");
+        CreateStatus third = submit("Cid");
+
+        await(first.getTrackingId(), CreateStatus.State.CREATED);
+        await(second.getTrackingId(), CreateStatus.State.FAILED);
+        CreateStatus last = await(third.getTrackingId(), CreateStatus.State.CREATED);
+        assertThat(last.getEmployee().getName()).isEqualTo("Cid");
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(1)).extracting(EmployeeDTO::getEmployee_name).containsExactly("Cid");
+    }
+
+    @Test
+    public void testEvictsFinishedStatusesAfterRetention() {
+        service = service(10, 1, Duration.ofMillis(1), 3, Duration.ZERO);
+        service.start();
+
+        CreateStatus status = submit("Ann");
+
+        awaitUntil(() -> service.getStatus(status.getTrackingId()), Optional::isEmpty);
+    }
+
+    @Test
+    public void testFlushedBatchInvalidatesThePrefetchedList() {
+        prefetcher = prefetcher(true);
+        service = service(10, 1, Duration.ofMillis(1), 3, Duration.ofMinutes(1));
+        service.start();
+
+        await(submit("Ann").getTrackingId(), CreateStatus.State.CREATED);
+
+        // An invalidated prefetcher fetches the list again.
+        awaitUntil(listFetches::get, fetches -> fetches > 0);
+    }
+
+    private AsyncEmployeeCreateService service(
+            int queueCapacity, int batchSize, Duration linger, int maxAttempts, Duration statusRetention) {
+        return new AsyncEmployeeCreateService(
+                new StubClient(),
+                prefetcher,
+                meterRegistry,
+                queueCapacity,
+                batchSize,
+                linger,
+                maxAttempts,
+                Duration.ofMillis(50),
+                statusRetention,
+                Duration.ofSeconds(1));
+    }
+
+    private EmployeePrefetcher prefetcher(boolean enabled) {
+        return new EmployeePrefetcher(
+                new StubClient(),
+                meterRegistry,
+                enabled,
+                Duration.ofMinutes(1),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(2),
+                Duration.ofSeconds(10),
+                3,
+                Duration.ofMinutes(1));
+    }
+
+    private CreateStatus submit(String name) {
+        return service.submit(employee(name)).orElseThrow();
+    }
+
+    private CreateStatus await(UUID trackingId, CreateStatus.State state) {
+        return awaitUntil(() -> service.getStatus(trackingId).orElseThrow(), status -> status.getState() == state);
+    }
+
+    private static <T> T awaitUntil(Supplier<T> supplier, Predicate<T> condition) {
+        long deadline = System.nanoTime() + WAIT.toNanos();
+        T value = supplier.get();
+        while (!condition.test(value)) {
+            assertThat(System.nanoTime()).as("timed out, last saw %s", value).isLessThan(deadline);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            value = supplier.get();
+        }
+        return value;
+    }
+
+    private static long millis(long millis) {
+        return Duration.ofMillis(millis).toNanos();
+    }
+
+    private static EmployeeDTO employee(String name) {
+        EmployeeDTO employee = new EmployeeDTO();
+        employee.setEmployee_name(name);
+        employee.setEmployee_salary(50_000);
+        employee.setEmployee_age(30);
+        employee.setEmployee_title("Engineer");
+        return employee;
+    }
+
+    private static List<Employee> created(List<EmployeeDTO> requestBodies) {
+        List<Employee> employees = new ArrayList<>(requestBodies.size());
+        for (EmployeeDTO requestBody : requestBodies) {
+            Employee employee = new Employee();
+            employee.setId(requestBody.getId());
+            employee.setName(requestBody.getEmployee_name());
+            employee.setSalary(requestBody.getEmployee_salary());
+            employee.setAge(requestBody.getEmployee_age());
+            employee.setTitle(requestBody.getEmployee_title());
+            employees.add(employee);
+        }
+        return employees;
+    }
+
+    private class StubClient extends EmployeeApiClientStub {
+
+        @Override
+        public List<Employee> createEmployees(List<EmployeeDTO> requestBodies) {
+            attemptTimes.add(System.nanoTime());
+            // Like the real client, give bodies without an id one, so that retries replay it.
+            requestBodies.stream()
+                    .filter(requestBody -> requestBody.getId() == null)
+                    .forEach(requestBody -> requestBody.setId(UUID.randomUUID().toString()));
+            batches.add(List.copyOf(requestBodies));
+            return upstream.apply(requestBodies);
+        }
+
+        @Override
+        public List<Employee> getEmployees() {
+            listFetches.incrementAndGet();
+            return List.of();
+        }
+    }
+}
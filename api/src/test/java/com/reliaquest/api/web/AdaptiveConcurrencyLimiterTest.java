@@ -0,0 +1,117 @@
+package com.reliaquest.api.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    public void setUp() {
+        limiter = new AdaptiveConcurrencyLimiter("test", 20, 2, 100, 0.2, 1.5, clock::get);
+    }
+
+    @Test
+    public void testRejectsBeyondLimit() {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = acquire(20);
+
+        assertThat(permits).doesNotContainNull();
+        assertThat(limiter.tryAcquire()).isNull();
+
+        permits.get(0).onSuccess();
+        assertThat(limiter.getInflight()).isEqualTo(19);
+        assertThat(limiter.tryAcquire()).isNotNull();
+    }
+
+    @Test
+    public void testReleasingTwiceCountsOnce() {
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+
+        permit.onSuccess();
+        permit.onDropped();
+
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    @Test
+    public void testGrowsWhileSaturatedAndLatencyIsSteady() {
+        for (int round = 0; round < 10; round++) {
+            completeRound(limiter.getLimit(), 10 * MILLIS);
+        }
+
+        assertThat(limiter.getLimit()).isGreaterThan(20);
+    }
+
+    @Test
+    public void testShrinksWhenLatencyRises() {
+        for (int round = 0; round < 10; round++) {
+            completeRound(limiter.getLimit(), 10 * MILLIS);
+        }
+        int before = limiter.getLimit();
+
+        for (int round = 0; round < 5; round++) {
+            completeRound(limiter.getLimit(), 100 * MILLIS);
+        }
+
+        assertThat(limiter.getLimit()).isLessThan(before);
+    }
+
+    @Test
+    public void testDoesNotGrowWhenLimitIsUnused() {
+        for (int round = 0; round < 50; round++) {
+            completeRound(2, 10 * MILLIS);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    public void testBacksOffOnDrops() {
+        for (int window = 0; window < 20; window++) {
+            for (int i = 0; i < AdaptiveConcurrencyLimiter.WINDOW_SIZE; i++) {
+                limiter.tryAcquire().onDropped();
+            }
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    public void testIgnoredReleasesFreeTheSlotWithoutMovingTheLimit() {
+        for (int window = 0; window < 20; window++) {
+            for (int i = 0; i < AdaptiveConcurrencyLimiter.WINDOW_SIZE; i++) {
+                limiter.tryAcquire().onIgnored();
+            }
+        }
+
+        assertThat(limiter.getInflight()).isZero();
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    /**
+     * Starts {@code concurrency} requests together and completes them all {@code latency} nanoseconds later.
+     */
+    private void completeRound(int concurrency, long latency) {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = acquire(concurrency);
+        clock.addAndGet(latency);
+        permits.forEach(AdaptiveConcurrencyLimiter.Permit::onSuccess);
+    }
+
+    private List<AdaptiveConcurrencyLimiter.Permit> acquire(int count) {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            permits.add(limiter.tryAcquire());
+        }
+        return permits;
+    }
+}
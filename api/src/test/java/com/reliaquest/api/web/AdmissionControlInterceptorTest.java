@@ -0,0 +1,112 @@
+package com.reliaquest.api.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.api.client.RequestContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+class AdmissionControlInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final Bulkheads bulkheads = new Bulkheads(meterRegistry, 20, 2, 200, 0.2, 1.5);
+
+    private final AdmissionControlInterceptor interceptor =
+            new AdmissionControlInterceptor(bulkheads, Duration.ofMillis(1500));
+
+    private HandlerMethod pointHandler;
+
+    @BeforeEach
+    public void setUp() throws NoSuchMethodException {
+        pointHandler = new HandlerMethod(new Handlers(), Handlers.class.getMethod("point"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        RequestContext.end();
+    }
+
+    @Test
+    public void testShedsRequestsOverTheLimitWithRetryAfter() {
+        for (int i = 0; i < 20; i++) {
+            assertThat(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), pointHandler))
+                    .isTrue();
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(new MockHttpServletRequest(), response, pointHandler)).isFalse();
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(meterRegistry.counter("api.admission.rejected", "bulkhead", Bulkhead.POINT).count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testLeavesHandlersWithoutABulkheadAlone() throws NoSuchMethodException {
+        HandlerMethod unlimited = new HandlerMethod(new Handlers(), Handlers.class.getMethod("unlimited"));
+
+        for (int i = 0; i < 50; i++) {
+            assertThat(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), unlimited))
+                    .isTrue();
+        }
+        assertThat(limiter().getInflight()).isZero();
+    }
+
+    @Test
+    public void testUpstreamFailuresDoNotBackTheLimitOff() {
+        RequestContext.begin(Duration.ofSeconds(5));
+
+        completeWindows(5, 503, null);
+        completeWindows(5, 500, new IllegalStateException("upstream failed"));
+
+        assertThat(limiter().getLimit()).isEqualTo(20);
+        assertThat(limiter().getInflight()).isZero();
+    }
+
+    @Test
+    public void testGatewayTimeoutsBackTheLimitOff() {
+        RequestContext.begin(Duration.ofSeconds(5));
+
+        completeWindows(1, 504, null);
+
+        assertThat(limiter().getLimit()).isEqualTo(18);
+    }
+
+    @Test
+    public void testRequestsPastTheirDeadlineBackTheLimitOff() {
+        RequestContext.begin(Duration.ZERO);
+
+        completeWindows(1, 503, null);
+
+        assertThat(limiter().getLimit()).isEqualTo(18);
+    }
+
+    private void completeWindows(int windows, int status, Exception ex) {
+        for (int i = 0; i < windows * AdaptiveConcurrencyLimiter.WINDOW_SIZE; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            assertThat(interceptor.preHandle(request, response, pointHandler)).isTrue();
+            response.setStatus(status);
+            interceptor.afterCompletion(request, response, pointHandler, ex);
+        }
+    }
+
+    private AdaptiveConcurrencyLimiter limiter() {
+        return bulkheads.forBulkhead(Bulkhead.POINT);
+    }
+
+    static class Handlers {
+
+        @Bulkhead(Bulkhead.POINT)
+        public void point() {}
+
+        public void unlimited() {}
+    }
+}
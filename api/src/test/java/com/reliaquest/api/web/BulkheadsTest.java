@@ -0,0 +1,58 @@
+package com.reliaquest.api.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+class BulkheadsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final Bulkheads bulkheads = new Bulkheads(meterRegistry, 20, 2, 200, 0.2, 1.5);
+
+    @Test
+    public void testPublishesLimitAndInflightForEveryBulkheadUpFront() {
+        for (String name : new String[] {Bulkhead.POINT, Bulkhead.SCAN, Bulkhead.WRITE}) {
+            assertThat(meterRegistry
+                            .get("api.admission.limit")
+                            .tag("bulkhead", name)
+                            .gauge()
+                            .value())
+                    .isEqualTo(20);
+            assertThat(meterRegistry
+                            .get("api.admission.inflight")
+                            .tag("bulkhead", name)
+                            .gauge()
+                            .value())
+                    .isZero();
+        }
+    }
+
+    @Test
+    public void testBulkheadsAreIsolatedFromEachOther() {
+        AdaptiveConcurrencyLimiter scan = bulkheads.forBulkhead(Bulkhead.SCAN);
+        for (int i = 0; i < 20; i++) {
+            scan.tryAcquire();
+        }
+
+        assertThat(bulkheads.forBulkhead(Bulkhead.SCAN)).isSameAs(scan);
+        assertThat(scan.tryAcquire()).isNull();
+        assertThat(bulkheads.forBulkhead(Bulkhead.POINT).tryAcquire()).isNotNull();
+        assertThat(meterRegistry
+                        .get("api.admission.inflight")
+                        .tag("bulkhead", Bulkhead.SCAN)
+                        .gauge()
+                        .value())
+                .isEqualTo(20);
+    }
+
+    @Test
+    public void testCountsRejectionsPerBulkhead() {
+        bulkheads.onRejected(Bulkhead.WRITE);
+        bulkheads.onRejected(Bulkhead.WRITE);
+
+        assertThat(meterRegistry.counter("api.admission.rejected", "bulkhead", Bulkhead.WRITE).count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("api.admission.rejected", "bulkhead", Bulkhead.POINT).count()).isZero();
+    }
+}
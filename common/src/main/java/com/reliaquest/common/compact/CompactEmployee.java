@@ -0,0 +1,64 @@
+package com.reliaquest.common.compact;
+
+import java.util.UUID;
+
+/**
+ * One employee in compact form: the id as two {@code long}s, salary and age as plain {@code int}s, the name and email
+ * as {@link CompactText} and the title as a {@link StringDictionary} code, or as {@link CompactText} once the
+ * dictionary is full. Strings are only decoded through the {@link CompactEmployeeCodec} that encoded them, typically
+ * while a response is being serialized.
+ */
+public final class CompactEmployee {
+
+    static final int ABSENT = Integer.MIN_VALUE;
+
+    private final long idMostSignificantBits;
+    private final long idLeastSignificantBits;
+    private final int salary;
+    private final int age;
+    private final int title;
+    final byte[] name;
+    final byte[] email;
+    // Set only when the title did not fit in the dictionary, in which case title is StringDictionary.FULL.
+    final byte[] titleText;
+
+    CompactEmployee(UUID id, Integer salary, Integer age, byte[] name, int title, byte[] titleText, byte[] email) {
+        this.idMostSignificantBits = id.getMostSignificantBits();
+        this.idLeastSignificantBits = id.getLeastSignificantBits();
+        this.salary = salary != null ? salary : ABSENT;
+        this.age = age != null ? age : ABSENT;
+        this.name = name;
+        this.title = title;
+        this.titleText = titleText;
+        this.email = email;
+    }
+
+    public UUID id() {
+        return new UUID(idMostSignificantBits, idLeastSignificantBits);
+    }
+
+    public long idMostSignificantBits() {
+        return idMostSignificantBits;
+    }
+
+    public long idLeastSignificantBits() {
+        return idLeastSignificantBits;
+    }
+
+    public boolean hasId(UUID id) {
+        return idMostSignificantBits == id.getMostSignificantBits()
+                && idLeastSignificantBits == id.getLeastSignificantBits();
+    }
+
+    public Integer salary() {
+        return salary != ABSENT ? salary : null;
+    }
+
+    public Integer age() {
+        return age != ABSENT ? age : null;
+    }
+
+    int title() {
+        return title;
+    }
+}
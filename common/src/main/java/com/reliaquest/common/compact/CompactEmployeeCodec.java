@@ -0,0 +1,61 @@
+package com.reliaquest.common.compact;
+
+import java.util.UUID;
+
+/**
+ * Encodes employees into {@link CompactEmployee}s and decodes their strings back: names as Latin-1 where possible,
+ * emails without the shared suffix and titles through a dictionary shared by every employee this codec encodes. The
+ * dictionary is bounded, since titles come from clients; titles beyond its first {@code maxTitles} are kept as
+ * {@link CompactText} by each employee instead.
+ */
+public final class CompactEmployeeCodec {
+
+    public static final int DEFAULT_MAX_TITLES = 4096;
+
+    private final String emailSuffix;
+
+    private final StringDictionary titles;
+
+    /**
+     * @param emailSuffix left out of every email that ends with it, such as {@code @company.com}.
+     */
+    public CompactEmployeeCodec(String emailSuffix) {
+        this(emailSuffix, DEFAULT_MAX_TITLES);
+    }
+
+    public CompactEmployeeCodec(String emailSuffix, int maxTitles) {
+        this.emailSuffix = emailSuffix;
+        this.titles = new StringDictionary(maxTitles);
+    }
+
+    public CompactEmployee encode(UUID id, String name, Integer salary, Integer age, String title, String email) {
+        int titleCode = titles.encode(title);
+        return new CompactEmployee(
+                id,
+                salary,
+                age,
+                CompactText.encode(name),
+                titleCode,
+                titleCode == StringDictionary.FULL ? CompactText.encode(title) : null,
+                CompactText.encode(email, emailSuffix));
+    }
+
+    public String name(CompactEmployee employee) {
+        return CompactText.decode(employee.name);
+    }
+
+    public String title(CompactEmployee employee) {
+        return employee.titleText != null ? CompactText.decode(employee.titleText) : titles.decode(employee.title());
+    }
+
+    public String email(CompactEmployee employee) {
+        return CompactText.decode(employee.email, emailSuffix);
+    }
+
+    /**
+     * @return the number of distinct titles held by the dictionary.
+     */
+    public int titleCount() {
+        return titles.size();
+    }
+}
@@ -0,0 +1,86 @@
+package com.reliaquest.common.compact;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes strings as bare byte arrays, without the {@link String} object around them. Strings made only of Latin-1
+ * characters, such as most names, take one byte per character; any other string falls back to UTF-8. A suffix every
+ * value is expected to share, such as the domain of every email address, can be left out when encoding and restored
+ * when decoding.
+ *
+ * <p>The first byte of an encoded value is a header: bit 0 is set for UTF-8, bit 1 when the suffix was left out.
+ */
+public final class CompactText {
+
+    private static final byte UTF_8 = 1;
+    private static final byte SUFFIX_ELIDED = 2;
+
+    private CompactText() {}
+
+    public static byte[] encode(String value) {
+        return encode(value, null);
+    }
+
+    /**
+     * @param suffix left out of the encoding when {@code value} ends with it; may be {@code null}.
+     */
+    public static byte[] encode(String value, String suffix) {
+        if (value == null) {
+            return null;
+        }
+        byte header = 0;
+        int length = value.length();
+        if (suffix != null && !suffix.isEmpty() && value.endsWith(suffix)) {
+            header |= SUFFIX_ELIDED;
+            length -= suffix.length();
+        }
+        if (!isLatin1(value, length)) {
+            byte[] utf8 = value.substring(0, length).getBytes(StandardCharsets.UTF_8);
+            byte[] encoded = new byte[utf8.length + 1];
+            encoded[0] = (byte) (header | UTF_8);
+            System.arraycopy(utf8, 0, encoded, 1, utf8.length);
+            return encoded;
+        }
+        byte[] encoded = new byte[length + 1];
+        encoded[0] = header;
+        for (int i = 0; i < length; i++) {
+            encoded[i + 1] = (byte) value.charAt(i);
+        }
+        return encoded;
+    }
+
+    public static String decode(byte[] encoded) {
+        return decode(encoded, null);
+    }
+
+    /**
+     * @param suffix the suffix {@code encoded} was encoded with.
+     */
+    public static String decode(byte[] encoded, String suffix) {
+        if (encoded == null) {
+            return null;
+        }
+        byte header = encoded[0];
+        String body = new String(
+                encoded,
+                1,
+                encoded.length - 1,
+                (header & UTF_8) != 0 ? StandardCharsets.UTF_8 : StandardCharsets.ISO_8859_1);
+        if ((header & SUFFIX_ELIDED) == 0) {
+            return body;
+        }
+        if (suffix == null) {
+            throw new IllegalArgumentException("Value was encoded without its suffix, but no suffix was given");
+        }
+        return body.concat(suffix);
+    }
+
+    private static boolean isLatin1(String value, int length) {
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,73 @@
+package com.reliaquest.common.compact;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gives each distinct string a small {@code int} code, so that a value repeated across many records is held once.
+ * Codes are dense from 0, in order of first appearance, and never reused; {@link #NULL} stands for {@code null}. Meant
+ * for low-cardinality values such as job titles: entries are never removed, so the dictionary holds at most
+ * {@code maxSize} values and answers {@link #FULL} for any new value beyond that. Safe for concurrent use, and decoding
+ * does not lock.
+ */
+public final class StringDictionary {
+
+    public static final int NULL = -1;
+
+    /**
+     * Returned by {@link #encode} for a value the dictionary has no room for; callers keep such values themselves.
+     */
+    public static final int FULL = -2;
+
+    private final Map<String, Integer> codes = new ConcurrentHashMap<>();
+
+    private final int maxSize;
+
+    private volatile String[] values;
+
+    private int size;
+
+    public StringDictionary(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Dictionary size must be positive");
+        }
+        this.maxSize = maxSize;
+        this.values = new String[Math.min(64, maxSize)];
+    }
+
+    public int encode(String value) {
+        if (value == null) {
+            return NULL;
+        }
+        Integer code = codes.get(value);
+        return code != null ? code : add(value);
+    }
+
+    public String decode(int code) {
+        return code == NULL ? null : values[code];
+    }
+
+    public int size() {
+        return codes.size();
+    }
+
+    private synchronized int add(String value) {
+        Integer code = codes.get(value);
+        if (code != null) {
+            return code;
+        }
+        if (size == maxSize) {
+            return FULL;
+        }
+        String[] current = values;
+        if (size == current.length) {
+            current = Arrays.copyOf(current, Math.min(maxSize, size * 2));
+        }
+        current[size] = value;
+        // Published before the code is handed out, so whoever holds a code can decode it.
+        values = current;
+        codes.put(value, size);
+        return size++;
+    }
+}
@@ -0,0 +1,130 @@
+package com.reliaquest.common.filter;
+
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.function.ToIntFunction;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Range predicates on salary and age, combined with AND, plus the order and number of matches to return. Absent
+ * bounds are open. Employees without a value for the sort field never match. The mock employee API's
+ * {@code GET /filter} and the api in front of it parse and evaluate filters through this one type, so the predicates
+ * mean the same on both sides of the wire.
+ */
+@Value
+@Builder
+public class EmployeeFilter {
+
+    public enum SortField {
+        SALARY,
+        AGE
+    }
+
+    Integer minSalary;
+    Integer maxSalary;
+    Integer minAge;
+    Integer maxAge;
+
+    @Builder.Default
+    SortField sortBy = SortField.SALARY;
+
+    @Builder.Default
+    boolean descending = false;
+
+    @Builder.Default
+    int limit = Integer.MAX_VALUE;
+
+    /**
+     * Builds a filter from the query parameters of {@code GET /filter}. A missing limit means no limit, and a negative
+     * one means none match.
+     *
+     * @throws IllegalArgumentException when {@code sort} or {@code order} is not a known value.
+     */
+    public static EmployeeFilter fromParameters(
+            Integer minSalary,
+            Integer maxSalary,
+            Integer minAge,
+            Integer maxAge,
+            String sort,
+            String order,
+            Integer limit) {
+        final SortField sortBy;
+        try {
+            sortBy = SortField.valueOf(sort.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown sort field: " + sort);
+        }
+        if (!"asc".equalsIgnoreCase(order) && !"desc".equalsIgnoreCase(order)) {
+            throw new IllegalArgumentException("Unknown sort order: " + order);
+        }
+        return EmployeeFilter.builder()
+                .minSalary(minSalary)
+                .maxSalary(maxSalary)
+                .minAge(minAge)
+                .maxAge(maxAge)
+                .sortBy(sortBy)
+                .descending("desc".equalsIgnoreCase(order))
+                .limit(limit != null ? Math.max(0, limit) : Integer.MAX_VALUE)
+                .build();
+    }
+
+    /**
+     * @return the query parameters {@link #fromParameters} reads back into an equal filter.
+     */
+    public String toQueryString() {
+        StringBuilder query = new StringBuilder()
+                .append("sort=")
+                .append(sortBy.name().toLowerCase(Locale.ROOT))
+                .append("&order=")
+                .append(descending ? "desc" : "asc");
+        appendParameter(query, "minSalary", minSalary);
+        appendParameter(query, "maxSalary", maxSalary);
+        appendParameter(query, "minAge", minAge);
+        appendParameter(query, "maxAge", maxAge);
+        if (limit != Integer.MAX_VALUE) {
+            appendParameter(query, "limit", limit);
+        }
+        return query.toString();
+    }
+
+    public boolean isBounded(SortField field) {
+        return field == SortField.SALARY ? minSalary != null || maxSalary != null : minAge != null || maxAge != null;
+    }
+
+    public int lowerBound(SortField field) {
+        Integer bound = field == SortField.SALARY ? minSalary : minAge;
+        return bound != null ? bound : Integer.MIN_VALUE;
+    }
+
+    public int upperBound(SortField field) {
+        Integer bound = field == SortField.SALARY ? maxSalary : maxAge;
+        return bound != null ? bound : Integer.MAX_VALUE;
+    }
+
+    public boolean matches(Integer salary, Integer age) {
+        return matches(SortField.SALARY, salary) && matches(SortField.AGE, age);
+    }
+
+    /**
+     * @return the order of this filter over elements whose salary and age are read by the given functions.
+     */
+    public <T> Comparator<T> comparator(ToIntFunction<? super T> salary, ToIntFunction<? super T> age) {
+        Comparator<T> comparator =
+                sortBy == SortField.AGE ? Comparator.comparingInt(age) : Comparator.comparingInt(salary);
+        return descending ? comparator.reversed() : comparator;
+    }
+
+    private boolean matches(SortField field, Integer value) {
+        if (!isBounded(field) && field != sortBy) {
+            return true;
+        }
+        return value != null && value >= lowerBound(field) && value <= upperBound(field);
+    }
+
+    private static void appendParameter(StringBuilder query, String name, Integer value) {
+        if (value != null) {
+            query.append('&').append(name).append('=').append(value);
+        }
+    }
+}
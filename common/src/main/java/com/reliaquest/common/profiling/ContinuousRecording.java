@@ -0,0 +1,136 @@
+package com.reliaquest.common.profiling;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Always-on JDK Flight Recorder recording kept as a ring buffer: the JVM's built-in {@code default} settings (designed
+ * to stay below 1% overhead) plus the application's own events, with anything older than {@code maxAge} or beyond
+ * {@code maxSize} discarded. The buffer is written to a file with {@link #dump}, on request with {@link #dumpOnDemand}, or
+ * in the background with {@link #dumpOnBreach}. The last two dump at most once per {@code minDumpInterval} each, so
+ * neither a latency storm nor a burst of requests can turn into a storm of dumps.
+ */
+public final class ContinuousRecording implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContinuousRecording.class);
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private final Recording recording;
+    private final Options options;
+    private final ExecutorService dumper;
+    private final AtomicLong nextBreachDump;
+    private final AtomicLong nextOnDemandDump;
+
+    /**
+     * @param configuration a JFR settings name such as {@code default} or {@code profile}.
+     * @param eventThreshold minimum duration for the application's events to be recorded.
+     */
+    public record Options(
+            String name,
+            String configuration,
+            Duration maxAge,
+            long maxSizeBytes,
+            Path dumpDirectory,
+            Duration minDumpInterval,
+            Duration eventThreshold) {}
+
+    public ContinuousRecording(Options options, List<Class<? extends Event>> events) {
+        this.options = options;
+        try {
+            this.recording = new Recording(Configuration.getConfiguration(options.configuration()));
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("Unknown flight recorder configuration: " + options.configuration(), e);
+        }
+        recording.setName(options.name());
+        recording.setToDisk(true);
+        recording.setMaxAge(options.maxAge());
+        recording.setMaxSize(options.maxSizeBytes());
+        events.forEach(event -> recording.enable(event).withThreshold(options.eventThreshold()).withoutStackTrace());
+        this.dumper = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, options.name() + "-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.nextBreachDump = new AtomicLong(System.nanoTime());
+        this.nextOnDemandDump = new AtomicLong(System.nanoTime());
+    }
+
+    public void start() {
+        recording.start();
+        logger.info(
+                "Started continuous flight recording '{}' ({} settings, last {} or {} bytes)",
+                options.name(),
+                options.configuration(),
+                options.maxAge(),
+                options.maxSizeBytes());
+    }
+
+    /**
+     * Writes the current contents of the ring buffer to a new file in the dump directory.
+     */
+    public Path dump(String reason) throws IOException {
+        Files.createDirectories(options.dumpDirectory());
+        Path file = options.dumpDirectory()
+                .resolve("%s-%s-%s.jfr".formatted(options.name(), FILE_TIMESTAMP.format(LocalDateTime.now()), reason));
+        recording.dump(file);
+        logger.info("Dumped flight recording to {} ({})", file, reason);
+        return file;
+    }
+
+    /**
+     * Writes the ring buffer to a new file unless an on-demand dump was written within the last
+     * {@code minDumpInterval}.
+     *
+     * @return the file, or empty when the last on-demand dump is too recent.
+     */
+    public Optional<Path> dumpOnDemand(String reason) throws IOException {
+        return tryReserve(nextOnDemandDump) ? Optional.of(dump(reason)) : Optional.empty();
+    }
+
+    /**
+     * Schedules a background dump unless one was scheduled within the last {@code minDumpInterval}.
+     *
+     * @return whether a dump was scheduled.
+     */
+    public boolean dumpOnBreach(String reason) {
+        if (!tryReserve(nextBreachDump)) {
+            return false;
+        }
+        dumper.execute(() -> {
+            try {
+                dump(reason);
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Unable to dump flight recording ({})", reason, e);
+            }
+        });
+        return true;
+    }
+
+    private boolean tryReserve(AtomicLong nextDump) {
+        long now = System.nanoTime();
+        long due = nextDump.get();
+        return now - due >= 0 && nextDump.compareAndSet(due, now + options.minDumpInterval().toNanos());
+    }
+
+    @Override
+    public void close() {
+        dumper.shutdownNow();
+        recording.close();
+    }
+}
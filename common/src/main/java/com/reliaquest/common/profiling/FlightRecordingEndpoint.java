@@ -0,0 +1,35 @@
+package com.reliaquest.common.profiling;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+
+/**
+ * {@code POST /actuator/flightrecording} writes the continuous recording's ring buffer to a file and answers with
+ * its path, or with {@code 429} when the last on-demand dump is more recent than the recording's
+ * {@code minDumpInterval}. Not exposed over HTTP unless listed in {@code management.endpoints.web.exposure.include}.
+ */
+@Endpoint(id = "flightrecording")
+public class FlightRecordingEndpoint {
+
+    private final ContinuousRecording recording;
+
+    public FlightRecordingEndpoint(ContinuousRecording recording) {
+        this.recording = recording;
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Map<String, String>> dump() throws IOException {
+        Optional<Path> file = recording.dumpOnDemand("on-demand");
+        if (file.isEmpty()) {
+            return new WebEndpointResponse<>(
+                    Map.of("error", "A flight recording was dumped recently, try again later"),
+                    WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+        }
+        return new WebEndpointResponse<>(Map.of("file", file.get().toAbsolutePath().toString()));
+    }
+}
@@ -0,0 +1,82 @@
+package com.reliaquest.common.shard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Consistent-hash ring mapping employee ids to shards. Shards are named {@code shard-0 .. shard-(n-1)} and each is
+ * placed on the ring {@value #VIRTUAL_NODES} times. The api and every server instance build the same ring from the
+ * shard count alone, so they agree on ownership without coordination.
+ */
+public final class ConsistentHashRing {
+
+    public static final int VIRTUAL_NODES = 128;
+
+    private final List<String> shards;
+    private final NavigableMap<Long, Integer> ring = new TreeMap<>();
+
+    public ConsistentHashRing(int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be at least 1, was " + shardCount);
+        }
+        this.shards = IntStream.range(0, shardCount)
+                .mapToObj(ConsistentHashRing::shardName)
+                .toList();
+        for (int shard = 0; shard < shardCount; shard++) {
+            for (int replica = 0; replica < VIRTUAL_NODES; replica++) {
+                ring.put(hash(shards.get(shard) + "#" + replica), shard);
+            }
+        }
+    }
+
+    public static String shardName(int index) {
+        return "shard-" + index;
+    }
+
+    public int shardCount() {
+        return shards.size();
+    }
+
+    public List<String> shards() {
+        return shards;
+    }
+
+    /**
+     * @return the index of the shard owning {@code id}.
+     */
+    public int shardFor(UUID id) {
+        if (shards.size() == 1) {
+            return 0;
+        }
+        Map.Entry<Long, Integer> owner = ring.ceilingEntry(hash(id));
+        return owner != null ? owner.getValue() : ring.firstEntry().getValue();
+    }
+
+    static long hash(UUID id) {
+        return mix(id.getMostSignificantBits() ^ mix(id.getLeastSignificantBits()));
+    }
+
+    static long hash(String key) {
+        // 64-bit FNV-1a, finalized with the murmur3 mixer for a better spread of ring points.
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
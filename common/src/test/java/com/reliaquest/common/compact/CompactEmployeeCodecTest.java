@@ -0,0 +1,94 @@
+package com.reliaquest.common.compact;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class CompactEmployeeCodecTest {
+
+    private final CompactEmployeeCodec codec = new CompactEmployeeCodec("@company.com");
+
+    @Test
+    public void testRoundTripsEveryField() {
+        UUID id = UUID.randomUUID();
+
+        CompactEmployee employee = codec.encode(id, "Tiger Nixon", 320_800, 61, "Vice Chair", "tnixon@company.com");
+
+        assertThat(employee.id()).isEqualTo(id);
+        assertThat(employee.hasId(id)).isTrue();
+        assertThat(employee.salary()).isEqualTo(320_800);
+        assertThat(employee.age()).isEqualTo(61);
+        assertThat(codec.name(employee)).isEqualTo("Tiger Nixon");
+        assertThat(codec.title(employee)).isEqualTo("Vice Chair");
+        assertThat(codec.email(employee)).isEqualTo("tnixon@company.com");
+    }
+
+    @Test
+    public void testRoundTripsAbsentValues() {
+        CompactEmployee employee = codec.encode(UUID.randomUUID(), null, null, null, null, null);
+
+        assertThat(employee.salary()).isNull();
+        assertThat(employee.age()).isNull();
+        assertThat(codec.name(employee)).isNull();
+        assertThat(codec.title(employee)).isNull();
+        assertThat(codec.email(employee)).isNull();
+    }
+
+    @Test
+    public void testSharesTitlesThroughTheDictionary() {
+        CompactEmployee first = codec.encode(UUID.randomUUID(), "A", 1, 20, new String("Engineer"), null);
+        CompactEmployee second = codec.encode(UUID.randomUUID(), "B", 1, 20, new String("Engineer"), null);
+
+        assertThat(codec.title(first)).isSameAs(codec.title(second));
+        assertThat(codec.titleCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testKeepsTitlesBeyondTheDictionaryBoundAsText() {
+        CompactEmployeeCodec bounded = new CompactEmployeeCodec("@company.com", 2);
+
+        CompactEmployee first = bounded.encode(UUID.randomUUID(), "A", 1, 20, "Engineer", null);
+        CompactEmployee second = bounded.encode(UUID.randomUUID(), "B", 1, 20, "Manager", null);
+        CompactEmployee third = bounded.encode(UUID.randomUUID(), "C", 1, 20, "Łead Änalyst", null);
+        CompactEmployee fourth = bounded.encode(UUID.randomUUID(), "D", 1, 20, "Engineer", null);
+
+        assertThat(bounded.titleCount()).isEqualTo(2);
+        assertThat(List.of(first, second, third, fourth))
+                .extracting(bounded::title)
+                .containsExactly("Engineer", "Manager", "Łead Änalyst", "Engineer");
+        assertThat(third.titleText).isNotNull();
+        assertThat(fourth.titleText).isNull();
+    }
+
+    @Test
+    public void testDictionaryAnswersFullOnlyForNewValuesBeyondItsSize() {
+        StringDictionary dictionary = new StringDictionary(100);
+        for (int i = 0; i < 100; i++) {
+            assertThat(dictionary.encode("title " + i)).isEqualTo(i);
+        }
+
+        assertThat(dictionary.encode("title 100")).isEqualTo(StringDictionary.FULL);
+        assertThat(dictionary.encode("title 99")).isEqualTo(99);
+        assertThat(dictionary.decode(99)).isEqualTo("title 99");
+        assertThat(dictionary.encode(null)).isEqualTo(StringDictionary.NULL);
+        assertThat(dictionary.size()).isEqualTo(100);
+    }
+
+    @Test
+    public void testStoresLatin1NamesAndElidedEmailsInOneBytePerCharacter() {
+        assertThat(CompactText.encode("José Zoë")).hasSize(1 + "José Zoë".length());
+        assertThat(CompactText.encode("tnixon@company.com", "@company.com")).hasSize(1 + "tnixon".length());
+    }
+
+    @Test
+    public void testRoundTripsTextOutsideLatin1AndWithoutTheSuffix() {
+        String[] values = {"", "Łukasz Żak", "名前", "\u0000leading", "x@example.org", "@company.com"};
+        for (String value : values) {
+            assertThat(CompactText.decode(CompactText.encode(value))).isEqualTo(value);
+            assertThat(CompactText.decode(CompactText.encode(value, "@company.com"), "@company.com"))
+                    .isEqualTo(value);
+        }
+    }
+}
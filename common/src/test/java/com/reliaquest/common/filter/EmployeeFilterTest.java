@@ -0,0 +1,99 @@
+package com.reliaquest.common.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class EmployeeFilterTest {
+
+    @Test
+    public void testQueryStringParsesBackIntoAnEqualFilter() {
+        EmployeeFilter filter = EmployeeFilter.builder()
+                .minSalary(50_000)
+                .maxAge(40)
+                .sortBy(EmployeeFilter.SortField.AGE)
+                .descending(true)
+                .limit(5)
+                .build();
+
+        Map<String, String> parameters = Arrays.stream(filter.toQueryString().split("&"))
+                .map(parameter -> parameter.split("="))
+                .collect(Collectors.toMap(pair -> pair[0], pair -> pair[1]));
+        EmployeeFilter parsed = EmployeeFilter.fromParameters(
+                integer(parameters.get("minSalary")),
+                integer(parameters.get("maxSalary")),
+                integer(parameters.get("minAge")),
+                integer(parameters.get("maxAge")),
+                parameters.get("sort"),
+                parameters.get("order"),
+                integer(parameters.get("limit")));
+
+        assertThat(parsed).isEqualTo(filter);
+    }
+
+    @Test
+    public void testMissingLimitMeansNoLimitAndNegativeMeansNone() {
+        EmployeeFilter unlimited = EmployeeFilter.fromParameters(null, null, null, null, "salary", "asc", null);
+        EmployeeFilter none = EmployeeFilter.fromParameters(null, null, null, null, "salary", "asc", -1);
+
+        assertThat(unlimited.getLimit()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(none.getLimit()).isZero();
+    }
+
+    @Test
+    public void testRejectsUnknownSortFieldAndOrder() {
+        assertThatThrownBy(() -> EmployeeFilter.fromParameters(null, null, null, null, "name", "asc", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown sort field: name");
+        assertThatThrownBy(() -> EmployeeFilter.fromParameters(null, null, null, null, "age", "up", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown sort order: up");
+    }
+
+    @Test
+    public void testBoundsAreInclusiveAndCombinedWithAnd() {
+        EmployeeFilter filter = EmployeeFilter.builder()
+                .minSalary(100)
+                .maxSalary(200)
+                .minAge(30)
+                .build();
+
+        assertThat(filter.matches(100, 30)).isTrue();
+        assertThat(filter.matches(200, 65)).isTrue();
+        assertThat(filter.matches(99, 30)).isFalse();
+        assertThat(filter.matches(150, 29)).isFalse();
+        assertThat(filter.matches(150, null)).isFalse();
+    }
+
+    @Test
+    public void testMissingSortValueNeverMatches() {
+        EmployeeFilter filter = EmployeeFilter.builder().sortBy(EmployeeFilter.SortField.AGE).build();
+
+        assertThat(filter.matches(null, 30)).isTrue();
+        assertThat(filter.matches(100, null)).isFalse();
+    }
+
+    @Test
+    public void testComparatorFollowsSortFieldAndOrder() {
+        int[][] employees = {{300, 20}, {100, 40}, {200, 30}};
+        EmployeeFilter byAgeDescending = EmployeeFilter.builder()
+                .sortBy(EmployeeFilter.SortField.AGE)
+                .descending(true)
+                .build();
+
+        List<int[]> sorted = Arrays.stream(employees)
+                .sorted(byAgeDescending.comparator(employee -> employee[0], employee -> employee[1]))
+                .toList();
+
+        assertThat(sorted).extracting(employee -> employee[1]).containsExactly(40, 30, 20);
+    }
+
+    private static Integer integer(String value) {
+        return value != null ? Integer.valueOf(value) : null;
+    }
+}
@@ -0,0 +1,95 @@
+package com.reliaquest.common.profiling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.Name;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+
+class ContinuousRecordingTest {
+
+    @Test
+    public void testDumpContainsEventsAboveThreshold(@TempDir Path directory) throws Exception {
+        try (ContinuousRecording recording = recording(directory, Duration.ofMinutes(1))) {
+            recording.start();
+            emit("slow", 20);
+            emit("fast", 0);
+
+            Path dump = recording.dump("test");
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(dump).stream()
+                    .filter(event -> event.getEventType().getName().equals("com.reliaquest.test.Sample"))
+                    .toList();
+            assertThat(events).extracting(event -> event.getString("label")).containsExactly("slow");
+        }
+    }
+
+    @Test
+    public void testBreachDumpsAreRateLimited(@TempDir Path directory) {
+        try (ContinuousRecording recording = recording(directory, Duration.ofMinutes(1))) {
+            recording.start();
+
+            assertThat(recording.dumpOnBreach("breach")).isTrue();
+            assertThat(recording.dumpOnBreach("breach")).isFalse();
+        }
+    }
+
+    @Test
+    public void testOnDemandDumpsAreRateLimitedApartFromBreachDumps(@TempDir Path directory) throws Exception {
+        try (ContinuousRecording recording = recording(directory, Duration.ofMinutes(1))) {
+            recording.start();
+
+            assertThat(recording.dumpOnDemand("on-demand")).isPresent();
+            assertThat(recording.dumpOnDemand("on-demand")).isEmpty();
+            assertThat(recording.dumpOnBreach("breach")).isTrue();
+        }
+    }
+
+    @Test
+    public void testEndpointAnswersTooManyRequestsWhileRateLimited(@TempDir Path directory) throws Exception {
+        try (ContinuousRecording recording = recording(directory, Duration.ofMinutes(1))) {
+            recording.start();
+            FlightRecordingEndpoint endpoint = new FlightRecordingEndpoint(recording);
+
+            WebEndpointResponse<Map<String, String>> first = endpoint.dump();
+            WebEndpointResponse<Map<String, String>> second = endpoint.dump();
+
+            assertThat(first.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+            assertThat(Path.of(first.getBody().get("file"))).exists();
+            assertThat(second.getStatus()).isEqualTo(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+        }
+    }
+
+    private static ContinuousRecording recording(Path directory, Duration minDumpInterval) {
+        return new ContinuousRecording(
+                new ContinuousRecording.Options(
+                        "test",
+                        "default",
+                        Duration.ofMinutes(1),
+                        10_000_000,
+                        directory,
+                        minDumpInterval,
+                        Duration.ofMillis(10)),
+                List.of(SampleEvent.class));
+    }
+
+    private static void emit(String label, long sleepMillis) throws InterruptedException {
+        SampleEvent event = new SampleEvent();
+        event.begin();
+        Thread.sleep(sleepMillis);
+        event.label = label;
+        event.commit();
+    }
+
+    @Name("com.reliaquest.test.Sample")
+    static class SampleEvent extends jdk.jfr.Event {
+        String label;
+    }
+}
@@ -0,0 +1,52 @@
+package com.reliaquest.common.shard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ConsistentHashRingTest {
+
+    @Test
+    public void testSingleShardOwnsEverything() {
+        ConsistentHashRing ring = new ConsistentHashRing(1);
+
+        assertThat(ring.shardFor(UUID.randomUUID())).isZero();
+        assertThat(ring.shards()).containsExactly("shard-0");
+    }
+
+    @Test
+    public void testOwnershipIsDeterministicAcrossInstances() {
+        ConsistentHashRing first = new ConsistentHashRing(3);
+        ConsistentHashRing second = new ConsistentHashRing(3);
+
+        IntStream.range(0, 1_000).mapToObj(ignored -> UUID.randomUUID()).forEach(id -> assertThat(first.shardFor(id))
+                .isEqualTo(second.shardFor(id)));
+    }
+
+    @Test
+    public void testIdsSpreadAcrossShards() {
+        ConsistentHashRing ring = new ConsistentHashRing(4);
+        int[] counts = new int[4];
+
+        IntStream.range(0, 40_000).forEach(ignored -> counts[ring.shardFor(UUID.randomUUID())]++);
+
+        assertThat(Arrays.stream(counts).boxed().toList())
+                .allSatisfy(count -> assertThat(count).isBetween(7_000, 13_000));
+    }
+
+    @Test
+    public void testAddingShardMovesOnlyAFractionOfIds() {
+        ConsistentHashRing three = new ConsistentHashRing(3);
+        ConsistentHashRing four = new ConsistentHashRing(4);
+
+        long moved = IntStream.range(0, 10_000)
+                .mapToObj(ignored -> UUID.randomUUID())
+                .filter(id -> three.shardFor(id) != four.shardFor(id))
+                .count();
+
+        assertThat(moved).isLessThan(4_000);
+    }
+}
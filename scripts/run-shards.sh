@@ -0,0 +1,61 @@
+#!/usr/bin/env bash
+#
+# Runs the mock employee server as several local shard processes.
+#
+#   ./scripts/run-shards.sh start [shards] [base-port]   (defaults: 3 shards from port 8112)
+#   ./scripts/run-shards.sh stop
+#
+# Shard i listens on base-port + i and owns its consistent-hash range of employee ids. Logs and pid files go to
+# build/shards/. Start the api with --spring.profiles.active=sharded to route across the default three shards.
+set -euo pipefail
+
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+RUN_DIR="$ROOT_DIR/build/shards"
+JAR="$ROOT_DIR/server/build/libs/server-1.0.0.jar"
+
+start() {
+    local shards="${1:-3}"
+    local base_port="${2:-8112}"
+
+    if [[ ! -f "$JAR" ]]; then
+        (cd "$ROOT_DIR" && ./gradlew -q server:bootJar)
+    fi
+    mkdir -p "$RUN_DIR"
+
+    local urls=()
+    for ((i = 0; i < shards; i++)); do
+        local port=$((base_port + i))
+        java ${JAVA_OPTS:-} -jar "$JAR" \
+            --server.port="$port" \
+            --mock.shard.count="$shards" \
+            --mock.shard.index="$i" \
+            >"$RUN_DIR/shard-$i.log" 2>&1 &
+        echo $! >"$RUN_DIR/shard-$i.pid"
+        urls+=("http://localhost:$port/api/v1/employee")
+        echo "Started shard-$i on port $port (pid $!)"
+    done
+
+    local joined
+    joined="$(IFS=,; echo "${urls[*]}")"
+    echo
+    echo "Point the api at these shards with:"
+    echo "  --mock.employee.api.shard-urls=$joined"
+}
+
+stop() {
+    shopt -s nullglob
+    for pid_file in "$RUN_DIR"/shard-*.pid; do
+        local pid
+        pid="$(cat "$pid_file")"
+        if kill "$pid" 2>/dev/null; then
+            echo "Stopped $(basename "$pid_file" .pid) (pid $pid)"
+        fi
+        rm -f "$pid_file"
+    done
+}
+
+case "${1:-}" in
+    start) shift; start "$@" ;;
+    stop) stop ;;
+    *) echo "Usage: $0 {start [shards] [base-port]|stop}" >&2; exit 1 ;;
+esac
@@ -0,0 +1,122 @@
+#!/usr/bin/env bash
+#
+# Measures cold start of each module, as shipped and with the fast-start setup.
+#
+#   ./scripts/startup-benchmark.sh [runs]   (default: 5 runs per module and mode)
+#
+# "default" runs the boot jar with no profile. "fast-start" runs the fast-start profile on the class-data sharing
+# archive trained by the cdsArchive task. For every run the script records the time until the liveness probe answers
+# (the web server is up) and until the readiness probe reports UP (for the server, the dataset is loaded). It prints
+# the average and the best run of each. Output of the last run of each mode goes to build/startup-benchmark/.
+#
+# The api is ready once it has built its first employee view, so its runs talk to one mock server started up front,
+# without its random rate limit.
+set -euo pipefail
+
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+RUN_DIR="$ROOT_DIR/build/startup-benchmark"
+RUNS="${1:-5}"
+
+declare -A MAIN_CLASS=(
+    [server]=com.reliaquest.server.ServerApplication
+    [api]=com.reliaquest.api.ApiApplication
+)
+declare -A PORT=([server]=18112 [api]=18111)
+UPSTREAM_PORT=18113
+UPSTREAM_PID=""
+
+now_ms() {
+    echo $(($(date +%s%N) / 1000000))
+}
+
+probe() {
+    curl -s -o /dev/null -w '%{http_code}' "http://localhost:$1/actuator/health/$2" || true
+}
+
+start_upstream() {
+    java -jar "$ROOT_DIR/server/build/libs/server-1.0.0.jar" --server.port="$UPSTREAM_PORT" \
+        --mock.rate-limit.enabled=false >"$RUN_DIR/upstream.log" 2>&1 &
+    UPSTREAM_PID=$!
+    until [[ "$(probe "$UPSTREAM_PORT" readiness)" == "200" ]]; do
+        if ! kill -0 "$UPSTREAM_PID" 2>/dev/null; then
+            echo "mock server for the api runs exited during startup, see $RUN_DIR/upstream.log" >&2
+            exit 1
+        fi
+        sleep 0.2
+    done
+}
+
+stop_upstream() {
+    if [[ -n "$UPSTREAM_PID" ]]; then
+        kill "$UPSTREAM_PID" 2>/dev/null || true
+        wait "$UPSTREAM_PID" 2>/dev/null || true
+    fi
+}
+
+# Starts one instance and prints "<ms to live> <ms to ready>".
+measure() {
+    local module="$1" mode="$2" port="${PORT[$1]}"
+    local log="$RUN_DIR/$module-$mode.log"
+    local start live="" ready=""
+    local args=(--server.port="$port")
+    if [[ "$module" == "api" ]]; then
+        args+=(--mock.employee.api.url="http://localhost:$UPSTREAM_PORT/api/v1/employee")
+    fi
+
+    start="$(now_ms)"
+    if [[ "$mode" == "default" ]]; then
+        java ${JAVA_OPTS:-} -jar "$ROOT_DIR/$module/build/libs/$module-1.0.0.jar" "${args[@]}" >"$log" 2>&1 &
+    else
+        java ${JAVA_OPTS:-} -XX:SharedArchiveFile="$ROOT_DIR/$module/build/cds/application.jsa" \
+            -cp "$(cat "$ROOT_DIR/$module/build/cds/classpath.txt")" "${MAIN_CLASS[$module]}" \
+            --spring.profiles.active=fast-start "${args[@]}" >"$log" 2>&1 &
+    fi
+    local pid=$!
+
+    while [[ -z "$ready" ]]; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "$module ($mode) exited during startup, see $log" >&2
+            exit 1
+        fi
+        if [[ -z "$live" && "$(probe "$port" liveness)" == "200" ]]; then
+            live=$(($(now_ms) - start))
+        fi
+        if [[ -n "$live" && "$(probe "$port" readiness)" == "200" ]]; then
+            ready=$(($(now_ms) - start))
+        fi
+        sleep 0.02
+    done
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    echo "$live $ready"
+}
+
+report() {
+    local module="$1" mode="$2"
+    local total_live=0 total_ready=0 best_live="" best_ready=""
+    for ((run = 1; run <= RUNS; run++)); do
+        local result live ready
+        result="$(measure "$module" "$mode")"
+        read -r live ready <<<"$result"
+        total_live=$((total_live + live))
+        total_ready=$((total_ready + ready))
+        if [[ -z "$best_live" || "$live" -lt "$best_live" ]]; then best_live="$live"; fi
+        if [[ -z "$best_ready" || "$ready" -lt "$best_ready" ]]; then best_ready="$ready"; fi
+    done
+    printf "%-8s %-12s %10d %10d %10d %10d\n" "$module" "$mode" \
+        $((total_live / RUNS)) "$best_live" $((total_ready / RUNS)) "$best_ready"
+}
+
+mkdir -p "$RUN_DIR"
+(cd "$ROOT_DIR" && ./gradlew -q server:bootJar api:bootJar server:cdsArchive api:cdsArchive)
+
+trap stop_upstream EXIT
+
+printf "%-8s %-12s %10s %10s %10s %10s\n" module mode "live avg" "live best" "ready avg" "ready best"
+report server default
+report server fast-start
+start_upstream
+report api default
+report api fast-start
+echo "(milliseconds, $RUNS runs each)"
@@ -1,29 +1,54 @@
 package com.reliaquest.server.config;
 
-import com.reliaquest.server.model.MockEmployee;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.reliaquest.common.profiling.ContinuousRecording;
+import com.reliaquest.common.profiling.FlightRecordingEndpoint;
+import com.reliaquest.server.controller.MockEmployeeController;
+import com.reliaquest.server.profiling.StoreLookupEvent;
+import com.reliaquest.server.store.EmployeeStore;
+import com.reliaquest.server.store.HeapEmployeeStore;
+import com.reliaquest.server.store.MockEmployeeLoader;
+import com.reliaquest.server.store.OffHeapEmployeeStore;
+import com.reliaquest.server.web.FaultInjection;
+import com.reliaquest.server.web.FaultInjectionFilter;
+import com.reliaquest.server.web.FaultInjectionSettings;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Slf4j
 @Configuration
+@EnableConfigurationProperties(FaultInjectionSettings.class)
 public class ServerConfiguration implements WebMvcConfigurer {
 
-    public static final String EMAIL_TEMPLATE = "%s@company.com";
+    @Value("${mock.rate-limit.enabled:true}")
+    private boolean rateLimitEnabled;
+
+    @Value("${mock.rate-limit.seed:#{null}}")
+    private Long rateLimitSeed;
+
+    @Value("${mock.rate-limit.requests:#{null}}")
+    private Integer rateLimitRequests;
+
+    @Value("${mock.rate-limit.backoff:#{null}}")
+    private Duration rateLimitBackoff;
 
     @Bean
     public Faker faker() {
@@ -31,29 +56,109 @@ public class ServerConfiguration implements WebMvcConfigurer {
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * The store is modifiable by design for CRUD operations. It starts empty; MockEmployeeLoader generates employees
+     * one at a time straight into it, so the off-heap store never has the whole dataset on the heap.
+     */
+    @Bean
+    public EmployeeStore employeeStore(
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.store.type:heap}") String storeType,
+            @Value("${mock.store.offheap.directory:}") String offHeapDirectory,
+            @Value("${mock.store.offheap.segment-size:64MB}") DataSize segmentSize) {
+        log.info("Using {} employee store", storeType);
+        return createStore(storeType, offHeapDirectory, segmentSize, maxEmployees);
+    }
+
+    private static EmployeeStore createStore(
+            String storeType, String offHeapDirectory, DataSize segmentSize, int expectedSize) {
+        return switch (storeType.toLowerCase(Locale.ROOT)) {
+            case "heap" -> new HeapEmployeeStore();
+            case "offheap" -> offHeapDirectory.isBlank()
+                    ? OffHeapEmployeeStore.direct(Math.toIntExact(segmentSize.toBytes()), expectedSize)
+                    : OffHeapEmployeeStore.mapped(
+                            Path.of(offHeapDirectory), Math.toIntExact(segmentSize.toBytes()), expectedSize);
+            default -> throw new IllegalArgumentException("Unknown mock.store.type: " + storeType);
+        };
+    }
+
+    /*
+     * Under spring.main.lazy-initialization the request path and the dataset loader still start eagerly, so the first
+     * request does not pay for them and loading begins as soon as the application is ready. The flight recording
+     * starts eagerly too, or it would hold nothing when first dumped.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter eagerServerBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                MockEmployeeController.class, MockEmployeeLoader.class, ContinuousRecording.class);
+    }
+
+    /*
+     * Lets clients ask for Smile instead of JSON through Accept; built from Boot's builder so both share the same
+     * Jackson settings.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(
+                builder.factory(new SmileFactory()).build());
     }
 
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "mock.profiling.enabled", havingValue = "true", matchIfMissing = true)
+    public ContinuousRecording continuousRecording(
+            @Value("${mock.profiling.configuration:default}") String configuration,
+            @Value("${mock.profiling.max-age:15m}") Duration maxAge,
+            @Value("${mock.profiling.max-size:100MB}") DataSize maxSize,
+            @Value("${mock.profiling.dump-directory:build/flight-recordings}") String dumpDirectory,
+            @Value("${mock.profiling.min-dump-interval:5m}") Duration minDumpInterval,
+            @Value("${mock.profiling.event-threshold:1ms}") Duration eventThreshold) {
+        final var recording = new ContinuousRecording(
+                new ContinuousRecording.Options(
+                        "mock-employee-api",
+                        configuration,
+                        maxAge,
+                        maxSize.toBytes(),
+                        Path.of(dumpDirectory),
+                        minDumpInterval,
+                        eventThreshold),
+                List.of(StoreLookupEvent.class));
+        recording.start();
+        return recording;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "mock.profiling.enabled", havingValue = "true", matchIfMissing = true)
+    public FlightRecordingEndpoint flightRecordingEndpoint(ContinuousRecording continuousRecording) {
+        return new FlightRecordingEndpoint(continuousRecording);
+    }
+
+    @Bean
+    public FaultInjection faultInjection(FaultInjectionSettings settings) {
+        return new FaultInjection(settings);
+    }
+
+    /*
+     * A servlet filter rather than an interceptor, so injected latency and errors also cover requests that never reach
+     * a handler, and slow bodies can wrap the response before the message converters write to it.
+     */
+    @Bean
+    public FilterRegistrationBean<FaultInjectionFilter> faultInjectionFilter(
+            FaultInjection faultInjection, ObjectMapper objectMapper) {
+        final var registration = new FilterRegistrationBean<>(new FaultInjectionFilter(faultInjection, objectMapper));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    /*
+     * Limit and backoff are random per JVM unless configured; mock.rate-limit.seed makes the random choice repeatable.
+     */
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        if (!rateLimitEnabled) {
+            log.info("Request limit disabled");
+            return;
+        }
+        registry.addInterceptor(
+                        RandomRequestLimitInterceptor.random(rateLimitSeed, rateLimitRequests, rateLimitBackoff))
+                .addPathPatterns("/api/**");
     }
 }
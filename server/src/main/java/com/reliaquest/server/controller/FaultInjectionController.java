@@ -0,0 +1,44 @@
+package com.reliaquest.server.controller;
+
+import com.reliaquest.server.web.FaultInjection;
+import com.reliaquest.server.web.FaultInjectionSettings;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Lets a load harness read and replace the fault injection settings between runs. Outside {@code /api}, so neither the
+ * injected faults nor the request limit apply to it.
+ */
+@RestController
+@RequestMapping("/admin/faults")
+@RequiredArgsConstructor
+public class FaultInjectionController {
+
+    private final FaultInjection faultInjection;
+
+    @GetMapping
+    public FaultInjectionSettings getSettings() {
+        return faultInjection.settings();
+    }
+
+    /*
+     * Applying settings, even unchanged ones, restarts the seeded sequences and the throttle window clock.
+     */
+    @PutMapping
+    public FaultInjectionSettings applySettings(@RequestBody FaultInjectionSettings settings) {
+        faultInjection.apply(settings);
+        return settings;
+    }
+
+    @DeleteMapping
+    public FaultInjectionSettings disable() {
+        final var settings = new FaultInjectionSettings();
+        faultInjection.apply(settings);
+        return settings;
+    }
+}
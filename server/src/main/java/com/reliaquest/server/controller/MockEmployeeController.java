@@ -1,5 +1,7 @@
 package com.reliaquest.server.controller;
 
+import com.reliaquest.common.filter.EmployeeFilter;
+import com.reliaquest.server.model.CreateMockEmployeeBatchInput;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -24,6 +27,11 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class MockEmployeeController {
 
+    /*
+     * Returned for ids that hash to another shard, so a misrouted client can tell it apart from a missing employee.
+     */
+    private static final int MISDIRECTED_REQUEST = 421;
+
     private final MockEmployeeService mockEmployeeService;
 
     @GetMapping()
@@ -31,8 +39,35 @@ public class MockEmployeeController {
         return Response.handledWith(mockEmployeeService.getMockEmployees());
     }
 
+    @GetMapping("/top")
+    public Response<List<MockEmployee>> getTopEarningEmployees(
+            @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        return Response.handledWith(mockEmployeeService.findTopBySalary(Math.max(0, limit)));
+    }
+
+    @GetMapping("/filter")
+    public ResponseEntity<Response<List<MockEmployee>>> filterEmployees(
+            @RequestParam(name = "minSalary", required = false) Integer minSalary,
+            @RequestParam(name = "maxSalary", required = false) Integer maxSalary,
+            @RequestParam(name = "minAge", required = false) Integer minAge,
+            @RequestParam(name = "maxAge", required = false) Integer maxAge,
+            @RequestParam(name = "sort", defaultValue = "salary") String sort,
+            @RequestParam(name = "order", defaultValue = "asc") String order,
+            @RequestParam(name = "limit", required = false) Integer limit) {
+        final EmployeeFilter filter;
+        try {
+            filter = EmployeeFilter.fromParameters(minSalary, maxSalary, minAge, maxAge, sort, order, limit);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Response.error(e.getMessage()));
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.findByFilter(filter)));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Response<MockEmployee>> getEmployee(@PathVariable("id") UUID uuid) {
+        if (!mockEmployeeService.owns(uuid)) {
+            return misdirected(uuid);
+        }
         return mockEmployeeService
                 .findById(uuid)
                 .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
@@ -40,12 +75,44 @@ public class MockEmployeeController {
     }
 
     @PostMapping()
-    public Response<MockEmployee> createEmployee(@Valid @RequestBody CreateMockEmployeeInput input) {
-        return Response.handledWith(mockEmployeeService.create(input));
+    public ResponseEntity<Response<MockEmployee>> createEmployee(@Valid @RequestBody CreateMockEmployeeInput input) {
+        if (input.getId() != null && !mockEmployeeService.owns(input.getId())) {
+            return misdirected(input.getId());
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.create(input)));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<Response<List<MockEmployee>>> createEmployees(
+            @Valid @RequestBody CreateMockEmployeeBatchInput input) {
+        final var misdirectedId = input.getEmployees().stream()
+                .map(CreateMockEmployeeInput::getId)
+                .filter(id -> id != null && !mockEmployeeService.owns(id))
+                .findFirst();
+        if (misdirectedId.isPresent()) {
+            return misdirected(misdirectedId.get());
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.createAll(input.getEmployees())));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Response<MockEmployee>> deleteEmployeeById(@PathVariable("id") UUID uuid) {
+        if (!mockEmployeeService.owns(uuid)) {
+            return misdirected(uuid);
+        }
+        return mockEmployeeService
+                .deleteById(uuid)
+                .map(employee -> ResponseEntity.ok(Response.handledWith(employee)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(Response.handled()));
     }
 
     @DeleteMapping()
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
         return Response.handledWith(mockEmployeeService.delete(input));
     }
+
+    private static <T> ResponseEntity<Response<T>> misdirected(UUID uuid) {
+        return ResponseEntity.status(MISDIRECTED_REQUEST)
+                .body(Response.error("Employee %s is owned by another shard.".formatted(uuid)));
+    }
 }
@@ -0,0 +1,18 @@
+package com.reliaquest.server.model;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class CreateMockEmployeeBatchInput {
+
+    public static final int MAX_BATCH_SIZE = 500;
+
+    @NotEmpty
+    @Size(max = MAX_BATCH_SIZE)
+    private List<@Valid @NotNull CreateMockEmployeeInput> employees;
+}
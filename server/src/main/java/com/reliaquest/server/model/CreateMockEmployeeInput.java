@@ -5,11 +5,18 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import java.util.UUID;
 import lombok.Data;
 
 @Data
 public class CreateMockEmployeeInput {
 
+    /**
+     * Optional id chosen by the client. A create whose id already exists returns the existing employee instead of
+     * creating another, so a client can safely retry a create whose response it never saw.
+     */
+    private UUID id;
+
     @NotBlank
     private String name;
 
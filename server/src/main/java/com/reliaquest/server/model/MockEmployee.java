@@ -14,6 +14,10 @@ import lombok.NonNull;
 @JsonNaming(MockEmployee.PrefixNamingStrategy.class)
 public class MockEmployee {
 
+    public static final String EMAIL_SUFFIX = "@company.com";
+
+    public static final String EMAIL_TEMPLATE = "%s" + EMAIL_SUFFIX;
+
     private UUID id;
     private String name;
     private Integer salary;
@@ -22,8 +26,13 @@ public class MockEmployee {
     private String email;
 
     public static MockEmployee from(@NonNull String email, @NonNull CreateMockEmployeeInput input) {
+        return from(UUID.randomUUID(), email, input);
+    }
+
+    public static MockEmployee from(
+            @NonNull UUID id, @NonNull String email, @NonNull CreateMockEmployeeInput input) {
         return MockEmployee.builder()
-                .id(UUID.randomUUID())
+                .id(id)
                 .email(email)
                 .name(input.getName())
                 .salary(input.getSalary())
@@ -0,0 +1,53 @@
+package com.reliaquest.server.profiling;
+
+import java.util.function.IntSupplier;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One read from the employee store. Stores may hand out lazily materialized lists, so for full-list reads the cost
+ * of materializing shows up in serialization rather than here.
+ */
+@Name("com.reliaquest.server.StoreLookup")
+@Label("Store Lookup")
+@Category({"ReliaQuest", "Mock Employee API"})
+@Description("Read from the mock employee store")
+@StackTrace(false)
+public class StoreLookupEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Store")
+    private String store;
+
+    @Label("Dataset Size")
+    @Description("Employees in the store")
+    private int datasetSize;
+
+    @Label("Result Size")
+    private int resultSize;
+
+    public static StoreLookupEvent start(String operation, Object store) {
+        StoreLookupEvent event = new StoreLookupEvent();
+        event.operation = operation;
+        event.store = store.getClass().getSimpleName();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * @param datasetSize only asked for when the event is recorded.
+     */
+    public void finish(IntSupplier datasetSize, int resultSize) {
+        end();
+        if (shouldCommit()) {
+            this.datasetSize = datasetSize.getAsInt();
+            this.resultSize = resultSize;
+            commit();
+        }
+    }
+}
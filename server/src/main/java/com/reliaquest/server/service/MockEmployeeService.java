@@ -1,14 +1,17 @@
 package com.reliaquest.server.service;
 
-import com.reliaquest.server.config.ServerConfiguration;
+import com.reliaquest.common.filter.EmployeeFilter;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.profiling.StoreLookupEvent;
+import com.reliaquest.server.shard.ShardOwnership;
+import com.reliaquest.server.store.EmployeeStore;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,37 +25,119 @@ public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final ShardOwnership shardOwnership;
+
+    private final EmployeeStore employeeStore;
+
+    public List<MockEmployee> getMockEmployees() {
+        final var lookup = StoreLookupEvent.start("findAll", employeeStore);
+        final var mockEmployees = employeeStore.findAll();
+        lookup.finish(employeeStore::size, mockEmployees.size());
+        return mockEmployees;
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        final var lookup = StoreLookupEvent.start("findById", employeeStore);
+        final var mockEmployee = employeeStore.findById(uuid);
+        lookup.finish(employeeStore::size, mockEmployee.isPresent() ? 1 : 0);
+        return mockEmployee;
     }
 
-    public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
-        final var mockEmployee = MockEmployee.from(
-                ServerConfiguration.EMAIL_TEMPLATE.formatted(
-                        faker.twitter().userName().toLowerCase()),
-                input);
-        mockEmployees.add(mockEmployee);
+    public boolean owns(@NonNull UUID uuid) {
+        return shardOwnership.owns(uuid);
+    }
+
+    public List<MockEmployee> findTopBySalary(int limit) {
+        final var lookup = StoreLookupEvent.start("findTopBySalary", employeeStore);
+        final var mockEmployees = employeeStore.findTopBySalary(limit);
+        lookup.finish(employeeStore::size, mockEmployees.size());
+        return mockEmployees;
+    }
+
+    public List<MockEmployee> findByFilter(@NonNull EmployeeFilter filter) {
+        final var lookup = StoreLookupEvent.start("findByFilter", employeeStore);
+        final var mockEmployees = employeeStore.findByFilter(filter);
+        lookup.finish(employeeStore::size, mockEmployees.size());
+        return mockEmployees;
+    }
+
+    /**
+     * Creates the employee, or returns the existing one when the input carries the id of an employee created before.
+     */
+    public synchronized MockEmployee create(@NonNull CreateMockEmployeeInput input) {
+        final var existing = findExisting(input);
+        if (existing.isPresent()) {
+            log.debug("Replayed create of employee: {}", existing.get());
+            return existing.get();
+        }
+        final var mockEmployee = newMockEmployee(input);
+        employeeStore.add(mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
-    public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
+    /**
+     * Creates every input in order, completely or not at all: when the store rejects an employee, for instance one
+     * whose fields exceed the off-heap store's limits, the employees of the batch added before it are removed again.
+     * Inputs carrying the id of an existing employee, or of an earlier input in the same batch, are answered with that
+     * employee instead of being created again, so replaying a batch creates nothing twice.
+     */
+    public synchronized List<MockEmployee> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        final var byId = new HashMap<UUID, MockEmployee>();
+        final var added = new ArrayList<MockEmployee>();
+        final var mockEmployees = new ArrayList<MockEmployee>(inputs.size());
+        for (CreateMockEmployeeInput input : inputs) {
+            var mockEmployee = input.getId() != null ? byId.get(input.getId()) : null;
+            if (mockEmployee == null) {
+                mockEmployee = findExisting(input).orElse(null);
+            }
+            if (mockEmployee == null) {
+                mockEmployee = newMockEmployee(input);
+                added.add(mockEmployee);
+            }
+            byId.put(mockEmployee.getId(), mockEmployee);
+            mockEmployees.add(mockEmployee);
+        }
+        for (int i = 0; i < added.size(); i++) {
+            try {
+                employeeStore.add(added.get(i));
+            } catch (RuntimeException e) {
+                added.subList(0, i).forEach(employee -> employeeStore.removeById(employee.getId()));
+                log.debug("Rolled back {} employees of a rejected batch", i);
+                throw e;
+            }
+        }
+        log.debug("Added {} of {} employees", added.size(), mockEmployees.size());
+        return mockEmployees;
+    }
+
+    public synchronized Optional<MockEmployee> deleteById(@NonNull UUID uuid) {
+        final var mockEmployee = employeeStore.removeById(uuid);
+        mockEmployee.ifPresent(employee -> log.debug("Removed employee: {}", employee));
+        return mockEmployee;
+    }
+
+    public synchronized boolean delete(@NonNull DeleteMockEmployeeInput input) {
+        final var lookup = StoreLookupEvent.start("findFirstByName", employeeStore);
+        final var mockEmployee = employeeStore.findFirstByName(input.getName());
+        lookup.finish(employeeStore::size, mockEmployee.isPresent() ? 1 : 0);
         if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
+            employeeStore.removeById(mockEmployee.get().getId());
             log.debug("Removed employee: {}", mockEmployee.get());
             return true;
         }
 
         return false;
     }
+
+    private Optional<MockEmployee> findExisting(CreateMockEmployeeInput input) {
+        return input.getId() != null ? employeeStore.findById(input.getId()) : Optional.empty();
+    }
+
+    private MockEmployee newMockEmployee(CreateMockEmployeeInput input) {
+        return MockEmployee.from(
+                input.getId() != null ? input.getId() : shardOwnership.newOwnedId(),
+                MockEmployee.EMAIL_TEMPLATE.formatted(faker.twitter().userName().toLowerCase()),
+                input);
+    }
 }
@@ -0,0 +1,55 @@
+package com.reliaquest.server.shard;
+
+import com.reliaquest.common.shard.ConsistentHashRing;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Which part of the id space this instance owns when the mock runs as several shards. With the default shard count of
+ * one, it owns everything and behaves exactly like an unsharded server.
+ */
+@Slf4j
+@Component
+public class ShardOwnership {
+
+    private final ConsistentHashRing ring;
+
+    @Getter
+    private final int shardIndex;
+
+    public ShardOwnership(
+            @Value("${mock.shard.count:1}") int shardCount, @Value("${mock.shard.index:0}") int shardIndex) {
+        if (shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException(
+                    "mock.shard.index must be in [0, %d), was %d".formatted(shardCount, shardIndex));
+        }
+        this.ring = new ConsistentHashRing(shardCount);
+        this.shardIndex = shardIndex;
+        if (isSharded()) {
+            log.info("Serving {} of {} shards.", ConsistentHashRing.shardName(shardIndex), shardCount);
+        }
+    }
+
+    public boolean isSharded() {
+        return ring.shardCount() > 1;
+    }
+
+    public boolean owns(@NonNull UUID id) {
+        return ring.shardFor(id) == shardIndex;
+    }
+
+    /**
+     * @return a random id that hashes to this shard; takes {@code shardCount} attempts on average.
+     */
+    public UUID newOwnedId() {
+        UUID id;
+        do {
+            id = UUID.randomUUID();
+        } while (!owns(id));
+        return id;
+    }
+}
@@ -0,0 +1,47 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.common.filter.EmployeeFilter;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.Closeable;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Storage engine behind {@link com.reliaquest.server.service.MockEmployeeService}. Implementations must be safe for
+ * concurrent use.
+ */
+public interface EmployeeStore extends Closeable {
+
+    int size();
+
+    /**
+     * @return every stored employee; implementations may materialize elements lazily while the list is iterated.
+     */
+    List<MockEmployee> findAll();
+
+    Optional<MockEmployee> findById(UUID id);
+
+    Optional<MockEmployee> findFirstByName(String name);
+
+    /**
+     * @return the employees matching {@code filter}, in its order; implementations walk a sorted index on the sort
+     *     field, so the cost follows the number of index entries within its bounds rather than the store size.
+     */
+    List<MockEmployee> findByFilter(EmployeeFilter filter);
+
+    default List<MockEmployee> findTopBySalary(int limit) {
+        return findByFilter(EmployeeFilter.builder()
+                .sortBy(EmployeeFilter.SortField.SALARY)
+                .descending(true)
+                .limit(limit)
+                .build());
+    }
+
+    void add(MockEmployee employee);
+
+    Optional<MockEmployee> removeById(UUID id);
+
+    @Override
+    default void close() {}
+}
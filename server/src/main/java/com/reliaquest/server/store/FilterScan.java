@@ -0,0 +1,62 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.common.filter.EmployeeFilter;
+import com.reliaquest.common.filter.EmployeeFilter.SortField;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.LongStream;
+
+/**
+ * Answers an {@link EmployeeFilter} from a store's salary and age {@link RangeIndex}es. When the sort field is bounded,
+ * or neither field is, its index is walked in the filter's order and the walk stops at the limit. When only the other
+ * field is bounded, that index narrows the rows instead, and the matches are sorted afterwards, so that a tight age
+ * range sorted by salary does not visit every salary. Ties order by row, as within an index.
+ */
+final class FilterScan {
+
+    private FilterScan() {}
+
+    /**
+     * @return the rows matching {@code filter}, in its order and at most {@code filter.limit} of them.
+     */
+    static List<Integer> matchingRows(
+            EmployeeFilter filter,
+            RangeIndex salaryIndex,
+            RangeIndex ageIndex,
+            IntFunction<Integer> salaryOf,
+            IntFunction<Integer> ageOf) {
+        List<Integer> rows = new ArrayList<>();
+        int limit = filter.getLimit();
+        if (limit <= 0) {
+            return rows;
+        }
+        SortField sortBy = filter.getSortBy();
+        SortField other = sortBy == SortField.SALARY ? SortField.AGE : SortField.SALARY;
+        RangeIndex sortIndex = sortBy == SortField.SALARY ? salaryIndex : ageIndex;
+        if (filter.isBounded(sortBy) || !filter.isBounded(other)) {
+            sortIndex.scan(filter.lowerBound(sortBy), filter.upperBound(sortBy), filter.isDescending(), row -> {
+                if (filter.matches(salaryOf.apply(row), ageOf.apply(row))) {
+                    rows.add(row);
+                }
+                return rows.size() < limit;
+            });
+            return rows;
+        }
+        RangeIndex otherIndex = sortIndex == salaryIndex ? ageIndex : salaryIndex;
+        LongStream.Builder entries = LongStream.builder();
+        otherIndex.scan(filter.lowerBound(other), filter.upperBound(other), false, row -> {
+            Integer salary = salaryOf.apply(row);
+            Integer age = ageOf.apply(row);
+            if (filter.matches(salary, age)) {
+                entries.add(RangeIndex.pack(sortBy == SortField.SALARY ? salary : age, row));
+            }
+            return true;
+        });
+        long[] sorted = entries.build().sorted().toArray();
+        for (int i = 0; i < Math.min(limit, sorted.length); i++) {
+            rows.add(RangeIndex.row(sorted[filter.isDescending() ? sorted.length - 1 - i : i]));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,152 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.common.compact.CompactEmployee;
+import com.reliaquest.common.compact.CompactEmployeeCodec;
+import com.reliaquest.common.filter.EmployeeFilter;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.UUID;
+
+/**
+ * Keeps employees on the heap as {@link CompactEmployee}s in an {@link ArrayList}, indexed by id and by salary and
+ * age. Names and emails are held as bytes and titles as dictionary codes; {@link MockEmployee}s are materialized only
+ * when a caller reads them, usually while the response is serialized. Each employee keeps the row it was added at; a
+ * removed employee leaves an empty row behind so that index entries stay valid.
+ */
+public class HeapEmployeeStore implements EmployeeStore {
+
+    private final CompactEmployeeCodec codec;
+
+    private final List<CompactEmployee> rows = new ArrayList<>();
+
+    private final Map<UUID, Integer> rowsById = new HashMap<>();
+
+    private final RangeIndex salaryIndex = RangeIndex.onHeap();
+
+    private final RangeIndex ageIndex = RangeIndex.onHeap();
+
+    public HeapEmployeeStore() {
+        this(MockEmployee.EMAIL_SUFFIX);
+    }
+
+    public HeapEmployeeStore(String emailSuffix) {
+        this.codec = new CompactEmployeeCodec(emailSuffix);
+    }
+
+    @Override
+    public synchronized int size() {
+        return rowsById.size();
+    }
+
+    @Override
+    public synchronized List<MockEmployee> findAll() {
+        return new MaterializingList(
+                rows.stream().filter(Objects::nonNull).toArray(CompactEmployee[]::new));
+    }
+
+    @Override
+    public synchronized Optional<MockEmployee> findById(UUID id) {
+        final var row = rowsById.get(id);
+        return row != null ? Optional.of(materialize(rows.get(row))) : Optional.empty();
+    }
+
+    @Override
+    public Optional<MockEmployee> findFirstByName(String name) {
+        CompactEmployee[] snapshot;
+        synchronized (this) {
+            snapshot = rows.toArray(CompactEmployee[]::new);
+        }
+        for (CompactEmployee employee : snapshot) {
+            if (employee != null) {
+                final var employeeName = codec.name(employee);
+                if (employeeName != null && employeeName.equalsIgnoreCase(name)) {
+                    return Optional.of(materialize(employee));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public synchronized List<MockEmployee> findByFilter(EmployeeFilter filter) {
+        List<Integer> matches = FilterScan.matchingRows(
+                filter, salaryIndex, ageIndex, row -> rows.get(row).salary(), row -> rows.get(row).age());
+        return new MaterializingList(matches.stream().map(rows::get).toArray(CompactEmployee[]::new));
+    }
+
+    @Override
+    public synchronized void add(MockEmployee employee) {
+        removeById(employee.getId());
+        int row = rows.size();
+        rows.add(codec.encode(
+                employee.getId(),
+                employee.getName(),
+                employee.getSalary(),
+                employee.getAge(),
+                employee.getTitle(),
+                employee.getEmail()));
+        rowsById.put(employee.getId(), row);
+        if (employee.getSalary() != null) {
+            salaryIndex.add(employee.getSalary(), row);
+        }
+        if (employee.getAge() != null) {
+            ageIndex.add(employee.getAge(), row);
+        }
+    }
+
+    @Override
+    public synchronized Optional<MockEmployee> removeById(UUID id) {
+        final var row = rowsById.remove(id);
+        if (row == null) {
+            return Optional.empty();
+        }
+        final var employee = rows.set(row, null);
+        if (employee.salary() != null) {
+            salaryIndex.remove(employee.salary(), row);
+        }
+        if (employee.age() != null) {
+            ageIndex.remove(employee.age(), row);
+        }
+        return Optional.of(materialize(employee));
+    }
+
+    private MockEmployee materialize(CompactEmployee employee) {
+        return MockEmployee.builder()
+                .id(employee.id())
+                .name(codec.name(employee))
+                .salary(employee.salary())
+                .age(employee.age())
+                .title(codec.title(employee))
+                .email(codec.email(employee))
+                .build();
+    }
+
+    /**
+     * Materializes each element when it is read, so a response is never held as a whole in {@link MockEmployee}s.
+     */
+    private final class MaterializingList extends AbstractList<MockEmployee> implements RandomAccess {
+
+        private final CompactEmployee[] employees;
+
+        private MaterializingList(CompactEmployee[] employees) {
+            this.employees = employees;
+        }
+
+        @Override
+        public MockEmployee get(int index) {
+            return materialize(employees[index]);
+        }
+
+        @Override
+        public int size() {
+            return employees.length;
+        }
+    }
+}
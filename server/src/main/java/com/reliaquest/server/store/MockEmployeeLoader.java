@@ -0,0 +1,113 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.shard.ShardOwnership;
+import jakarta.annotation.PostConstruct;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import net.datafaker.Faker;
+import net.datafaker.transformations.Field;
+import net.datafaker.transformations.JavaObjectTransformer;
+import net.datafaker.transformations.Schema;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the {@link EmployeeStore} with generated employees. By default this happens while the context starts, as
+ * before. With {@code mock.employees.background-load} it starts once the application is ready instead, on its own
+ * thread, and {@link MockEmployeeLoaderHealthIndicator} keeps the readiness group out of service until it finishes.
+ */
+@Slf4j
+@Component
+public class MockEmployeeLoader {
+
+    private final EmployeeStore employeeStore;
+
+    private final Faker faker;
+
+    private final ShardOwnership shardOwnership;
+
+    private final int maxEmployees;
+
+    private final boolean backgroundLoad;
+
+    private final AtomicInteger loadedEmployees = new AtomicInteger();
+
+    private volatile boolean loaded;
+
+    public MockEmployeeLoader(
+            EmployeeStore employeeStore,
+            Faker faker,
+            ShardOwnership shardOwnership,
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.background-load:false}") boolean backgroundLoad) {
+        this.employeeStore = employeeStore;
+        this.faker = faker;
+        this.shardOwnership = shardOwnership;
+        this.maxEmployees = maxEmployees;
+        this.backgroundLoad = backgroundLoad;
+    }
+
+    @PostConstruct
+    void loadDuringStartup() {
+        if (!backgroundLoad) {
+            load();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadInBackground() {
+        if (!backgroundLoad) {
+            return;
+        }
+        Thread loader = new Thread(this::load, "mock-employee-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int getLoadedEmployees() {
+        return loadedEmployees.get();
+    }
+
+    public int getMaxEmployees() {
+        return maxEmployees;
+    }
+
+    private void load() {
+        final var start = System.nanoTime();
+        final var transformer = new JavaObjectTransformer();
+        final var schema = Schema.of(
+                Field.field("id", shardOwnership::newOwnedId),
+                Field.field("name", () -> faker.name().fullName()),
+                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
+                Field.field("age", () -> faker.number().numberBetween(16, 70)),
+                Field.field("title", () -> faker.job().title()),
+                Field.field(
+                        "email",
+                        () -> MockEmployee.EMAIL_TEMPLATE.formatted(faker.twitter().userName().toLowerCase())));
+        try {
+            IntStream.rangeClosed(1, maxEmployees)
+                    .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
+                    .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
+                    .forEach(mockEmployee -> {
+                        employeeStore.add(mockEmployee);
+                        loadedEmployees.incrementAndGet();
+                    });
+            loaded = true;
+            log.info(
+                    "Loaded {} employees in {} ms",
+                    loadedEmployees.get(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("Failed to load employees after {} of {}", loadedEmployees.get(), maxEmployees, e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.reliaquest.server.store;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Out of service until {@link MockEmployeeLoader} has filled the store. Part of the readiness group, so instances that
+ * load in the background receive traffic only once the dataset is complete.
+ */
+@Component
+@RequiredArgsConstructor
+public class MockEmployeeLoaderHealthIndicator implements HealthIndicator {
+
+    private final MockEmployeeLoader mockEmployeeLoader;
+
+    @Override
+    public Health health() {
+        final var builder = mockEmployeeLoader.isLoaded() ? Health.up() : Health.outOfService();
+        return builder.withDetail("loaded", mockEmployeeLoader.getLoadedEmployees())
+                .withDetail("max", mockEmployeeLoader.getMaxEmployees())
+                .build();
+    }
+}
@@ -0,0 +1,568 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.common.filter.EmployeeFilter;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntFunction;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps employees outside the Java heap so that millions of records do not burden the garbage collector.
+ *
+ * <p>Each employee occupies a fixed {@value #RECORD_SIZE}-byte record in the record area:
+ *
+ * <pre>
+ *  0  id (most significant bits)    long
+ *  8  id (least significant bits)   long
+ * 16  salary                        int, {@link Integer#MIN_VALUE} when absent
+ * 20  age                           int, {@link Integer#MIN_VALUE} when absent
+ * 24  offset into the string area   long
+ * 32  length in the string area     int
+ * 36  flags                         byte, 1 while live
+ * </pre>
+ *
+ * The string area holds name, title and email back to back, each as a two-byte length followed by UTF-8 bytes. Both
+ * areas are append-only sequences of fixed-size segments, either direct buffers or regions of memory-mapped files.
+ * Deleting an employee only clears its live flag; the record and its strings stay as they were. Ids are located
+ * through an {@link OffHeapIdIndex} and salary and age ranges through {@link RangeIndex}es. Their memory comes from
+ * the same kind of source as the segments, so a mapped store keeps nothing in direct memory. {@link MockEmployee}
+ * instances are materialized only when a caller asks for them.
+ */
+@Slf4j
+public class OffHeapEmployeeStore implements EmployeeStore {
+
+    static final int RECORD_SIZE = 40;
+
+    private static final int INDEX_CHUNK_SIZE = RangeIndex.CHUNK_CAPACITY * Long.BYTES;
+
+    private static final int ID_MSB = 0;
+    private static final int ID_LSB = 8;
+    private static final int SALARY = 16;
+    private static final int AGE = 20;
+    private static final int STRINGS_OFFSET = 24;
+    private static final int STRINGS_LENGTH = 32;
+    private static final int FLAGS = 36;
+
+    private static final byte LIVE = 1;
+    private static final int ABSENT = Integer.MIN_VALUE;
+    private static final int NULL_STRING = 0xFFFF;
+
+    private final int segmentSize;
+    private final int recordsPerSegment;
+    private final SegmentSource recordSource;
+    private final SegmentSource stringSource;
+    private final SegmentSource indexSource;
+    private final List<ByteBuffer> recordSegments = new ArrayList<>();
+    private final List<ByteBuffer> stringSegments = new ArrayList<>();
+    private final OffHeapIdIndex idIndex;
+    private final RangeIndex salaryIndex;
+    private final RangeIndex ageIndex;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int rowCount;
+    private long stringsEnd;
+
+    private OffHeapEmployeeStore(
+            int segmentSize,
+            int expectedSize,
+            int indexRegionSize,
+            SegmentSource recordSource,
+            SegmentSource stringSource,
+            SegmentSource indexSource) {
+        if (segmentSize < RECORD_SIZE) {
+            throw new IllegalArgumentException("Segment size must be at least " + RECORD_SIZE + " bytes");
+        }
+        this.segmentSize = segmentSize;
+        this.recordsPerSegment = segmentSize / RECORD_SIZE;
+        this.recordSource = recordSource;
+        this.stringSource = stringSource;
+        this.indexSource = indexSource;
+        this.idIndex = new OffHeapIdIndex(expectedSize, indexSource::allocate);
+        this.salaryIndex = new RangeIndex(new IndexChunks(indexSource, indexRegionSize));
+        this.ageIndex = new RangeIndex(new IndexChunks(indexSource, indexRegionSize));
+    }
+
+    /**
+     * Creates a store backed by direct buffers, which count against {@code -XX:MaxDirectMemorySize}. Besides the
+     * segments, the id index takes 24 bytes per slot at a load of at most 0.7, twice that while it grows, and each
+     * range index 8 to 16 bytes per employee.
+     */
+    public static OffHeapEmployeeStore direct(int segmentSize, int expectedSize) {
+        return new OffHeapEmployeeStore(
+                segmentSize,
+                expectedSize,
+                INDEX_CHUNK_SIZE,
+                DirectSegmentSource.INSTANCE,
+                DirectSegmentSource.INSTANCE,
+                DirectSegmentSource.INSTANCE);
+    }
+
+    /**
+     * Creates a store backed by files in {@code directory}, which are truncated first. The operating system pages
+     * records and indexes in and out as needed. Index chunks are carved out of segment-sized regions, so that the
+     * indexes take a few mappings rather than one per chunk.
+     */
+    public static OffHeapEmployeeStore mapped(Path directory, int segmentSize, int expectedSize) {
+        try {
+            Files.createDirectories(directory);
+            return new OffHeapEmployeeStore(
+                    segmentSize,
+                    expectedSize,
+                    Math.max(segmentSize / INDEX_CHUNK_SIZE, 1) * INDEX_CHUNK_SIZE,
+                    new MappedSegmentSource(directory.resolve("employees.records")),
+                    new MappedSegmentSource(directory.resolve("employees.strings")),
+                    new MappedSegmentSource(directory.resolve("employees.indexes")));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to create off-heap store in " + directory, e);
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return idIndex.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<MockEmployee> findAll() {
+        lock.readLock().lock();
+        try {
+            return new MaterializingList(rowCount, removedRows());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<MockEmployee> findById(UUID id) {
+        lock.readLock().lock();
+        try {
+            int row = idIndex.get(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            return row < 0 ? Optional.empty() : Optional.of(materialize(row));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<MockEmployee> findFirstByName(String name) {
+        lock.readLock().lock();
+        try {
+            for (int row = 0; row < rowCount; row++) {
+                if (isLive(row) && name.equalsIgnoreCase(readName(row))) {
+                    return Optional.of(materialize(row));
+                }
+            }
+            return Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<MockEmployee> findByFilter(EmployeeFilter filter) {
+        lock.readLock().lock();
+        try {
+            List<MockEmployee> matches = new ArrayList<>();
+            for (int row : FilterScan.matchingRows(filter, salaryIndex, ageIndex, this::readSalary, this::readAge)) {
+                matches.add(materialize(row));
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void add(MockEmployee employee) {
+        byte[] name = encode(employee.getName());
+        byte[] title = encode(employee.getTitle());
+        byte[] email = encode(employee.getEmail());
+        lock.writeLock().lock();
+        try {
+            UUID id = employee.getId();
+            int existing = idIndex.get(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            if (existing >= 0) {
+                unindex(existing);
+                record(existing).put(recordBase(existing) + FLAGS, (byte) 0);
+            }
+            int row = rowCount;
+            int stringsLength = 6 + length(name) + length(title) + length(email);
+            long stringsOffset = appendStrings(stringsLength, name, title, email);
+            ByteBuffer record = recordSegment(row / recordsPerSegment);
+            int base = recordBase(row);
+            record.putLong(base + ID_MSB, id.getMostSignificantBits());
+            record.putLong(base + ID_LSB, id.getLeastSignificantBits());
+            record.putInt(base + SALARY, employee.getSalary() != null ? employee.getSalary() : ABSENT);
+            record.putInt(base + AGE, employee.getAge() != null ? employee.getAge() : ABSENT);
+            record.putLong(base + STRINGS_OFFSET, stringsOffset);
+            record.putInt(base + STRINGS_LENGTH, stringsLength);
+            record.put(base + FLAGS, LIVE);
+            rowCount++;
+            idIndex.put(id.getMostSignificantBits(), id.getLeastSignificantBits(), row);
+            if (employee.getSalary() != null) {
+                salaryIndex.add(employee.getSalary(), row);
+            }
+            if (employee.getAge() != null) {
+                ageIndex.add(employee.getAge(), row);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<MockEmployee> removeById(UUID id) {
+        lock.writeLock().lock();
+        try {
+            int row = idIndex.remove(id.getMostSignificantBits(), id.getLeastSignificantBits());
+            if (row < 0) {
+                return Optional.empty();
+            }
+            MockEmployee employee = materialize(row);
+            unindex(row);
+            record(row).put(recordBase(row) + FLAGS, (byte) 0);
+            return Optional.of(employee);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            recordSegments.clear();
+            stringSegments.clear();
+            recordSource.close();
+            stringSource.close();
+            indexSource.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private MockEmployee materialize(int row) {
+        ByteBuffer record = record(row);
+        int base = recordBase(row);
+        long stringsOffset = record.getLong(base + STRINGS_OFFSET);
+        ByteBuffer strings = stringSegments.get((int) (stringsOffset / segmentSize));
+        int cursor = (int) (stringsOffset % segmentSize);
+        String name = decode(strings, cursor);
+        cursor += 2 + encodedLength(strings, cursor);
+        String title = decode(strings, cursor);
+        cursor += 2 + encodedLength(strings, cursor);
+        String email = decode(strings, cursor);
+        return MockEmployee.builder()
+                .id(new UUID(record.getLong(base + ID_MSB), record.getLong(base + ID_LSB)))
+                .name(name)
+                .salary(nullable(record.getInt(base + SALARY)))
+                .age(nullable(record.getInt(base + AGE)))
+                .title(title)
+                .email(email)
+                .build();
+    }
+
+    private void unindex(int row) {
+        ByteBuffer record = record(row);
+        int base = recordBase(row);
+        int salary = record.getInt(base + SALARY);
+        int age = record.getInt(base + AGE);
+        if (salary != ABSENT) {
+            salaryIndex.remove(salary, row);
+        }
+        if (age != ABSENT) {
+            ageIndex.remove(age, row);
+        }
+    }
+
+    private Integer readSalary(int row) {
+        return nullable(record(row).getInt(recordBase(row) + SALARY));
+    }
+
+    private Integer readAge(int row) {
+        return nullable(record(row).getInt(recordBase(row) + AGE));
+    }
+
+    private String readName(int row) {
+        long stringsOffset = record(row).getLong(recordBase(row) + STRINGS_OFFSET);
+        return decode(stringSegments.get((int) (stringsOffset / segmentSize)), (int) (stringsOffset % segmentSize));
+    }
+
+    /**
+     * @return the rows below {@link #rowCount} that are not live, in ascending order.
+     */
+    private int[] removedRows() {
+        int[] removed = new int[rowCount - idIndex.size()];
+        for (int row = 0, count = 0; count < removed.length; row++) {
+            if (!isLive(row)) {
+                removed[count++] = row;
+            }
+        }
+        return removed;
+    }
+
+    private boolean isLive(int row) {
+        return record(row).get(recordBase(row) + FLAGS) == LIVE;
+    }
+
+    private ByteBuffer record(int row) {
+        return recordSegments.get(row / recordsPerSegment);
+    }
+
+    private int recordBase(int row) {
+        return (row % recordsPerSegment) * RECORD_SIZE;
+    }
+
+    private long appendStrings(int length, byte[]... values) {
+        if (length > segmentSize) {
+            throw new IllegalArgumentException("Employee strings exceed the segment size of " + segmentSize);
+        }
+        int segment = (int) (stringsEnd / segmentSize);
+        int position = (int) (stringsEnd % segmentSize);
+        if (position + length > segmentSize) {
+            segment++;
+            position = 0;
+        }
+        ByteBuffer strings = stringSegment(segment);
+        int cursor = position;
+        for (byte[] value : values) {
+            strings.putShort(cursor, (short) (value == null ? NULL_STRING : value.length));
+            cursor += 2;
+            if (value != null) {
+                strings.put(cursor, value);
+                cursor += value.length;
+            }
+        }
+        stringsEnd = (long) segment * segmentSize + cursor;
+        return (long) segment * segmentSize + position;
+    }
+
+    private ByteBuffer recordSegment(int index) {
+        return segment(recordSegments, recordSource, index);
+    }
+
+    private ByteBuffer stringSegment(int index) {
+        return segment(stringSegments, stringSource, index);
+    }
+
+    private ByteBuffer segment(List<ByteBuffer> segments, SegmentSource source, int index) {
+        while (segments.size() <= index) {
+            segments.add(source.allocate(segmentSize));
+            log.debug("Allocated off-heap segment {} of {} bytes", segments.size() - 1, segmentSize);
+        }
+        return segments.get(index);
+    }
+
+    private static byte[] encode(String value) {
+        if (value == null) {
+            return null;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length >= NULL_STRING) {
+            throw new IllegalArgumentException("Employee field exceeds " + (NULL_STRING - 1) + " bytes");
+        }
+        return bytes;
+    }
+
+    private static int length(byte[] value) {
+        return value == null ? 0 : value.length;
+    }
+
+    private static int encodedLength(ByteBuffer strings, int position) {
+        int length = Short.toUnsignedInt(strings.getShort(position));
+        return length == NULL_STRING ? 0 : length;
+    }
+
+    private static String decode(ByteBuffer strings, int position) {
+        int length = Short.toUnsignedInt(strings.getShort(position));
+        if (length == NULL_STRING) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        strings.get(position + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Integer nullable(int value) {
+        return value == ABSENT ? null : value;
+    }
+
+    /**
+     * The employees stored when the list was created, materialized one at a time as they are read. Records are never
+     * overwritten, so removing an employee afterwards does not change the list. Only the removed rows are held, to map
+     * an index to its row: {@code get} costs a binary search over them and iteration skips them in step.
+     */
+    private class MaterializingList extends AbstractList<MockEmployee> implements RandomAccess {
+
+        private final int rowCount;
+        private final int[] removedRows;
+
+        private MaterializingList(int rowCount, int[] removedRows) {
+            this.rowCount = rowCount;
+            this.removedRows = removedRows;
+        }
+
+        @Override
+        public Iterator<MockEmployee> iterator() {
+            return new Iterator<>() {
+                private int nextRow;
+                private int nextRemoved;
+
+                @Override
+                public boolean hasNext() {
+                    while (nextRemoved < removedRows.length && removedRows[nextRemoved] == nextRow) {
+                        nextRow++;
+                        nextRemoved++;
+                    }
+                    return nextRow < rowCount;
+                }
+
+                @Override
+                public MockEmployee next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return read(nextRow++);
+                }
+            };
+        }
+
+        @Override
+        public MockEmployee get(int index) {
+            Objects.checkIndex(index, size());
+            // The row is the index plus the number of removed rows before it. removedRows[i] - i counts the live rows
+            // before the i-th removed row, so those removed rows precede the row for every index at least that count.
+            int low = 0;
+            int high = removedRows.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (removedRows[middle] - middle <= index) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return read(index + low);
+        }
+
+        @Override
+        public int size() {
+            return rowCount - removedRows.length;
+        }
+
+        private MockEmployee read(int row) {
+            lock.readLock().lock();
+            try {
+                return materialize(row);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Hands out zero-filled buffers, each following the previous one.
+     */
+    private interface SegmentSource {
+
+        ByteBuffer allocate(int size);
+
+        default void close() {}
+    }
+
+    private enum DirectSegmentSource implements SegmentSource {
+        INSTANCE;
+
+        @Override
+        public ByteBuffer allocate(int size) {
+            return ByteBuffer.allocateDirect(size);
+        }
+    }
+
+    /**
+     * Carves {@link RangeIndex} chunks out of regions of {@code regionSize} bytes. A chunk the index drops is not
+     * reused; the index drops a chunk only once every entry in it is deleted.
+     */
+    private static final class IndexChunks implements IntFunction<LongBuffer> {
+
+        private final SegmentSource source;
+        private final int regionSize;
+        private ByteBuffer region;
+
+        private IndexChunks(SegmentSource source, int regionSize) {
+            this.source = source;
+            this.regionSize = regionSize;
+        }
+
+        @Override
+        public LongBuffer apply(int capacity) {
+            int size = capacity * Long.BYTES;
+            if (region == null || region.remaining() < size) {
+                region = source.allocate(Math.max(regionSize, size));
+            }
+            ByteBuffer chunk = region.slice(region.position(), size);
+            region.position(region.position() + size);
+            return chunk.asLongBuffer();
+        }
+    }
+
+    private static final class MappedSegmentSource implements SegmentSource {
+
+        private final FileChannel channel;
+        private long end;
+
+        private MappedSegmentSource(Path file) throws IOException {
+            this.channel = FileChannel.open(
+                    file,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        }
+
+        @Override
+        public ByteBuffer allocate(int size) {
+            try {
+                // The file starts empty and only grows, so every new region reads as zeros.
+                ByteBuffer region = channel.map(FileChannel.MapMode.READ_WRITE, end, size);
+                end += size;
+                return region;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to map off-heap region at " + end, e);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("Unable to close off-heap store file", e);
+            }
+        }
+    }
+}
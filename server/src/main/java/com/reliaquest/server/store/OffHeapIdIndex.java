@@ -0,0 +1,162 @@
+package com.reliaquest.server.store;
+
+import java.nio.ByteBuffer;
+import java.util.function.IntFunction;
+
+/**
+ * Open-addressing hash table from employee id to row number. Each slot is {@value #SLOT_SIZE} bytes: the two halves of
+ * the {@link java.util.UUID} followed by {@code row + 1}, where {@code 0} marks a never-used slot and {@code -1} a
+ * deleted one. The table comes from the supplied allocator, which must return zero-filled buffers, so a mapped store
+ * can keep it in its files rather than in direct memory. Not thread-safe; callers synchronize.
+ */
+final class OffHeapIdIndex {
+
+    static final int SLOT_SIZE = 24;
+
+    private static final int MSB = 0;
+    private static final int LSB = 8;
+    private static final int ROW = 16;
+
+    private static final int EMPTY = 0;
+    private static final int TOMBSTONE = -1;
+
+    private static final int MAX_CAPACITY = 1 << 26;
+    private static final double MAX_LOAD = 0.7;
+
+    private final IntFunction<ByteBuffer> allocator;
+    private ByteBuffer table;
+    private int capacity;
+    private int size;
+    private int used;
+
+    OffHeapIdIndex(int expectedSize, IntFunction<ByteBuffer> allocator) {
+        this.allocator = allocator;
+        allocate(capacityFor(expectedSize));
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the row for the id, or {@code -1} when absent.
+     */
+    int get(long msb, long lsb) {
+        int slot = find(msb, lsb);
+        return slot < 0 ? -1 : table.getInt(slot * SLOT_SIZE + ROW) - 1;
+    }
+
+    void put(long msb, long lsb, int row) {
+        if (used + 1 > capacity * MAX_LOAD) {
+            rehash(size + 1 > capacity * MAX_LOAD / 2 ? capacity * 2 : capacity);
+        }
+        int mask = capacity - 1;
+        int firstTombstone = -1;
+        for (int slot = spread(msb, lsb) & mask; ; slot = (slot + 1) & mask) {
+            int base = slot * SLOT_SIZE;
+            int marker = table.getInt(base + ROW);
+            if (marker == EMPTY) {
+                int target = firstTombstone >= 0 ? firstTombstone : slot;
+                if (firstTombstone < 0) {
+                    used++;
+                }
+                write(target, msb, lsb, row);
+                size++;
+                return;
+            }
+            if (marker == TOMBSTONE) {
+                if (firstTombstone < 0) {
+                    firstTombstone = slot;
+                }
+            } else if (table.getLong(base + MSB) == msb && table.getLong(base + LSB) == lsb) {
+                table.putInt(base + ROW, row + 1);
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return the row the id was mapped to, or {@code -1} when absent.
+     */
+    int remove(long msb, long lsb) {
+        int slot = find(msb, lsb);
+        if (slot < 0) {
+            return -1;
+        }
+        int base = slot * SLOT_SIZE;
+        int row = table.getInt(base + ROW) - 1;
+        table.putInt(base + ROW, TOMBSTONE);
+        size--;
+        return row;
+    }
+
+    private int find(long msb, long lsb) {
+        int mask = capacity - 1;
+        for (int slot = spread(msb, lsb) & mask; ; slot = (slot + 1) & mask) {
+            int base = slot * SLOT_SIZE;
+            int marker = table.getInt(base + ROW);
+            if (marker == EMPTY) {
+                return -1;
+            }
+            if (marker != TOMBSTONE
+                    && table.getLong(base + MSB) == msb
+                    && table.getLong(base + LSB) == lsb) {
+                return slot;
+            }
+        }
+    }
+
+    private void write(int slot, long msb, long lsb, int row) {
+        int base = slot * SLOT_SIZE;
+        table.putLong(base + MSB, msb);
+        table.putLong(base + LSB, lsb);
+        table.putInt(base + ROW, row + 1);
+    }
+
+    private void rehash(int newCapacity) {
+        if (newCapacity > MAX_CAPACITY) {
+            throw new IllegalStateException("Id index cannot grow beyond " + MAX_CAPACITY + " slots");
+        }
+        ByteBuffer old = table;
+        int oldCapacity = capacity;
+        allocate(newCapacity);
+        int mask = capacity - 1;
+        for (int slot = 0; slot < oldCapacity; slot++) {
+            int base = slot * SLOT_SIZE;
+            int marker = old.getInt(base + ROW);
+            if (marker == EMPTY || marker == TOMBSTONE) {
+                continue;
+            }
+            long msb = old.getLong(base + MSB);
+            long lsb = old.getLong(base + LSB);
+            int target = spread(msb, lsb) & mask;
+            while (table.getInt(target * SLOT_SIZE + ROW) != EMPTY) {
+                target = (target + 1) & mask;
+            }
+            write(target, msb, lsb, marker - 1);
+            size++;
+            used++;
+        }
+    }
+
+    private void allocate(int newCapacity) {
+        // Fresh buffers are zero-filled, so every slot starts EMPTY.
+        table = allocator.apply(newCapacity * SLOT_SIZE);
+        capacity = newCapacity;
+        size = 0;
+        used = 0;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = 16;
+        while (capacity < MAX_CAPACITY && capacity * MAX_LOAD < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int spread(long msb, long lsb) {
+        long hash = (msb ^ (lsb * 0x9e3779b97f4a7c15L)) * 0xbf58476d1ce4e5b9L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+}
@@ -0,0 +1,210 @@
+package com.reliaquest.server.store;
+
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+
+/**
+ * Sorted secondary index from an {@code int} attribute to row numbers. Each entry is packed into one {@code long} as
+ * {@code value << 32 | row}, so entries order by value and then by row. Entries live in sorted chunks of up to
+ * {@value #CHUNK_CAPACITY}. A chunk that fills up is split in two, and an empty chunk is dropped. Chunks come from the
+ * supplied allocator, so an off-heap store can keep its indexes off-heap too. Not thread-safe; callers synchronize.
+ */
+final class RangeIndex {
+
+    static final int CHUNK_CAPACITY = 4096;
+
+    private final IntFunction<LongBuffer> allocator;
+    private final List<Chunk> chunks = new ArrayList<>();
+    // First entry of each chunk, kept alongside so that locating a chunk does not touch the chunks themselves.
+    private long[] firstEntries = new long[16];
+    private int size;
+
+    RangeIndex(IntFunction<LongBuffer> allocator) {
+        this.allocator = allocator;
+    }
+
+    static RangeIndex onHeap() {
+        return new RangeIndex(LongBuffer::allocate);
+    }
+
+    int size() {
+        return size;
+    }
+
+    void add(int value, int row) {
+        long entry = pack(value, row);
+        if (chunks.isEmpty()) {
+            chunks.add(new Chunk(allocator.apply(CHUNK_CAPACITY)));
+        }
+        int index = chunkFor(entry);
+        Chunk chunk = chunks.get(index);
+        int position = chunk.search(entry);
+        if (position >= 0) {
+            return;
+        }
+        position = -position - 1;
+        if (chunk.size == CHUNK_CAPACITY) {
+            Chunk upper = chunk.splitUpperHalf(allocator.apply(CHUNK_CAPACITY));
+            chunks.add(index + 1, upper);
+            insertFirstEntry(index + 1, upper.entries.get(0));
+            if (position > chunk.size) {
+                chunk = upper;
+                position -= CHUNK_CAPACITY / 2;
+            }
+        }
+        chunk.insert(position, entry);
+        if (position == 0) {
+            firstEntries[index] = entry;
+        }
+        size++;
+    }
+
+    void remove(int value, int row) {
+        if (chunks.isEmpty()) {
+            return;
+        }
+        long entry = pack(value, row);
+        int index = chunkFor(entry);
+        Chunk chunk = chunks.get(index);
+        int position = chunk.search(entry);
+        if (position < 0) {
+            return;
+        }
+        chunk.delete(position);
+        size--;
+        if (chunk.size == 0 && chunks.size() > 1) {
+            chunks.remove(index);
+            System.arraycopy(firstEntries, index + 1, firstEntries, index, chunks.size() - index);
+        } else if (position == 0 && chunk.size > 0) {
+            firstEntries[index] = chunk.entries.get(0);
+        }
+    }
+
+    /**
+     * Visits the rows whose value lies in {@code [min, max]}, in value order, until {@code visitor} returns
+     * {@code false}.
+     */
+    void scan(int min, int max, boolean descending, IntPredicate visitor) {
+        if (chunks.isEmpty() || min > max) {
+            return;
+        }
+        long lowest = pack(min, 0);
+        long highest = pack(max, -1);
+        if (descending) {
+            int index = chunkFor(highest);
+            int position = chunks.get(index).search(highest);
+            position = position >= 0 ? position : -position - 2;
+            for (; index >= 0; index--) {
+                Chunk chunk = chunks.get(index);
+                for (position = Math.min(position, chunk.size - 1); position >= 0; position--) {
+                    long entry = chunk.entries.get(position);
+                    if (entry < lowest || !visitor.test(row(entry))) {
+                        return;
+                    }
+                }
+                position = Integer.MAX_VALUE;
+            }
+        } else {
+            int index = chunkFor(lowest);
+            int position = chunks.get(index).search(lowest);
+            position = position >= 0 ? position : -position - 1;
+            for (; index < chunks.size(); index++) {
+                Chunk chunk = chunks.get(index);
+                for (; position < chunk.size; position++) {
+                    long entry = chunk.entries.get(position);
+                    if (entry > highest || !visitor.test(row(entry))) {
+                        return;
+                    }
+                }
+                position = 0;
+            }
+        }
+    }
+
+    static long pack(int value, int row) {
+        return ((long) value << 32) | (row & 0xFFFFFFFFL);
+    }
+
+    static int row(long entry) {
+        return (int) entry;
+    }
+
+    /**
+     * @return the last chunk whose first entry is at most {@code entry}, or the first chunk.
+     */
+    private int chunkFor(long entry) {
+        int low = 0;
+        int high = chunks.size() - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (firstEntries[middle] <= entry) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    private void insertFirstEntry(int index, long entry) {
+        if (chunks.size() > firstEntries.length) {
+            firstEntries = Arrays.copyOf(firstEntries, firstEntries.length * 2);
+        }
+        System.arraycopy(firstEntries, index, firstEntries, index + 1, chunks.size() - 1 - index);
+        firstEntries[index] = entry;
+    }
+
+    private static final class Chunk {
+
+        private final LongBuffer entries;
+        private int size;
+
+        private Chunk(LongBuffer entries) {
+            this.entries = entries;
+        }
+
+        /**
+         * @return the position of {@code entry}, or {@code -(insertion point) - 1} when absent.
+         */
+        private int search(long entry) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                long candidate = entries.get(middle);
+                if (candidate < entry) {
+                    low = middle + 1;
+                } else if (candidate > entry) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private void insert(int position, long entry) {
+            entries.put(position + 1, entries, position, size - position);
+            entries.put(position, entry);
+            size++;
+        }
+
+        private void delete(int position) {
+            entries.put(position, entries, position + 1, size - position - 1);
+            size--;
+        }
+
+        private Chunk splitUpperHalf(LongBuffer target) {
+            Chunk upper = new Chunk(target);
+            int half = size / 2;
+            target.put(0, entries, half, size - half);
+            upper.size = size - half;
+            size = half;
+            return upper;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * Decides, from the current {@link FaultInjectionSettings}, what happens to each request. Decisions are drawn from a
+ * random generator seeded by the settings' seed, the matching rule and how many requests matched that rule before, so
+ * replaying the same request sequence replays the same faults. Applying new settings restarts the sequences and the
+ * throttle window clock.
+ */
+@Slf4j
+public class FaultInjection {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final LongSupplier clock;
+    private final AtomicReference<Plan> plan = new AtomicReference<>();
+
+    public FaultInjection(FaultInjectionSettings settings) {
+        this(settings, System::nanoTime);
+    }
+
+    FaultInjection(FaultInjectionSettings settings, LongSupplier clock) {
+        this.clock = clock;
+        apply(settings);
+    }
+
+    public void apply(FaultInjectionSettings settings) {
+        plan.set(new Plan(settings, clock.getAsLong()));
+        log.info(
+                "Fault injection {} with seed {}: {} rules, {} throttle windows",
+                settings.isEnabled() ? "enabled" : "disabled",
+                settings.getSeed(),
+                settings.getRules().size(),
+                settings.getThrottleWindows().size());
+    }
+
+    public FaultInjectionSettings settings() {
+        return plan.get().settings();
+    }
+
+    public boolean isEnabled() {
+        return plan.get().settings().isEnabled();
+    }
+
+    /**
+     * @return how long the current throttle window still lasts, or empty outside any window.
+     */
+    public Optional<Duration> throttled() {
+        Plan current = plan.get();
+        long elapsed = clock.getAsLong() - current.appliedAt();
+        long remaining = 0;
+        for (FaultInjectionSettings.ThrottleWindow window : current.settings().getThrottleWindows()) {
+            long sinceStart = elapsed - window.getStart().toNanos();
+            if (sinceStart < 0) {
+                continue;
+            }
+            if (window.getPeriod() != null && !window.getPeriod().isZero()) {
+                sinceStart %= window.getPeriod().toNanos();
+            }
+            remaining = Math.max(remaining, window.getDuration().toNanos() - sinceStart);
+        }
+        return remaining > 0 ? Optional.of(Duration.ofNanos(remaining)) : Optional.empty();
+    }
+
+    /**
+     * @return the faults for a request, or {@link Fault#NONE} when it matches no rule.
+     */
+    public Fault next(String method, String path) {
+        Plan current = plan.get();
+        List<FaultInjectionSettings.Rule> rules = current.settings().getRules();
+        for (int index = 0; index < rules.size(); index++) {
+            FaultInjectionSettings.Rule rule = rules.get(index);
+            if ((rule.getMethod() == null || rule.getMethod().equalsIgnoreCase(method))
+                    && PATH_MATCHER.match(rule.getPath(), path)) {
+                long sequence = current.sequences()[index].getAndIncrement();
+                return draw(rule, random(current.settings().getSeed(), index, sequence));
+            }
+        }
+        return Fault.NONE;
+    }
+
+    private static Fault draw(FaultInjectionSettings.Rule rule, SplittableRandom random) {
+        // Always draw in the same order, so that changing one rate does not reshuffle the other decisions.
+        Duration latency = latency(rule.getLatency(), random.nextDouble());
+        boolean error = random.nextDouble() < rule.getErrorRate();
+        boolean disconnect = random.nextDouble() < rule.getDisconnectRate();
+        return new Fault(latency, error ? rule.getErrorStatus() : 0, disconnect, rule.getSlowBody());
+    }
+
+    private static Duration latency(FaultInjectionSettings.Latency latency, double sample) {
+        if (latency == null) {
+            return Duration.ZERO;
+        }
+        long jitter = latency.getJitter().toNanos();
+        long extra =
+                switch (latency.getDistribution()) {
+                    case FIXED -> 0;
+                    case UNIFORM -> (long) (sample * jitter);
+                    case EXPONENTIAL -> (long) (-Math.log(1 - sample) * jitter);
+                };
+        return latency.getBase().plusNanos(extra);
+    }
+
+    private static SplittableRandom random(long seed, int rule, long sequence) {
+        return new SplittableRandom(seed ^ (rule * 0x9E3779B97F4A7C15L) ^ (sequence * 0xC2B2AE3D27D4EB4FL));
+    }
+
+    /**
+     * @param errorStatus status to answer with instead of handling the request, or {@code 0}.
+     * @param slowBody how to trickle the response body, or {@code null} to write it normally.
+     */
+    public record Fault(
+            Duration latency, int errorStatus, boolean disconnect, FaultInjectionSettings.SlowBody slowBody) {
+
+        public static final Fault NONE = new Fault(Duration.ZERO, 0, false, null);
+    }
+
+    private record Plan(FaultInjectionSettings settings, long appliedAt, AtomicLong[] sequences) {
+
+        private Plan(FaultInjectionSettings settings, long appliedAt) {
+            this(
+                    settings,
+                    appliedAt,
+                    IntStream.range(0, settings.getRules().size())
+                            .mapToObj(ignored -> new AtomicLong())
+                            .toArray(AtomicLong[]::new));
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.Response;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Applies {@link FaultInjection} to requests, in this order: throttle windows answer {@code 429}; then the matching
+ * rule's latency is slept, after which the request either fails with the rule's error status, has its connection
+ * dropped after the headers, or is handled normally with its body optionally trickled out in delayed chunks.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class FaultInjectionFilter extends OncePerRequestFilter {
+
+    private final FaultInjection faultInjection;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!faultInjection.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        final var throttled = faultInjection.throttled();
+        if (throttled.isPresent()) {
+            response.setHeader(
+                    HttpHeaders.RETRY_AFTER,
+                    String.valueOf(Math.max(1, (long) Math.ceil(throttled.get().toMillis() / 1000.0))));
+            writeError(response, HttpStatus.TOO_MANY_REQUESTS.value(), "Injected throttle window.");
+            return;
+        }
+
+        final var fault = faultInjection.next(request.getMethod(), request.getRequestURI());
+        sleep(fault.latency());
+        if (fault.errorStatus() > 0) {
+            writeError(response, fault.errorStatus(), "Injected fault.");
+        } else if (fault.disconnect()) {
+            disconnect(response);
+        } else if (fault.slowBody() != null) {
+            filterChain.doFilter(request, new SlowBodyResponse(response, fault.slowBody()));
+        } else {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private void writeError(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Response.error(message));
+    }
+
+    /*
+     * The servlet API cannot send a TCP reset, so the closest equivalent is used: promise a body, send part of it and
+     * close the connection. Clients see the stream end early, as they would on a reset mid-response.
+     */
+    private static void disconnect(HttpServletResponse response) throws IOException {
+        byte[] partial = "{\"data\":[".getBytes(StandardCharsets.UTF_8);
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.CONNECTION, "close");
+        response.setContentLength(partial.length * 64);
+        response.getOutputStream().write(partial);
+        response.flushBuffer();
+        log.debug("Injected disconnect");
+    }
+
+    private static void sleep(Duration duration) throws InterruptedIOException {
+        if (duration.isZero() || duration.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis(), duration.toNanosPart() % 1_000_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while injecting latency");
+        }
+    }
+
+    /**
+     * Writes the body through in chunks of {@code chunkBytes}, flushing and pausing {@code chunkDelay} after each.
+     */
+    private static final class SlowBodyResponse extends HttpServletResponseWrapper {
+
+        private final FaultInjectionSettings.SlowBody slowBody;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        private SlowBodyResponse(HttpServletResponse response, FaultInjectionSettings.SlowBody slowBody) {
+            super(response);
+            this.slowBody = slowBody;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new SlowOutputStream(super.getOutputStream(), slowBody);
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            super.flushBuffer();
+        }
+    }
+
+    private static final class SlowOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private final int chunkBytes;
+        private final Duration chunkDelay;
+        private int chunkWritten;
+
+        private SlowOutputStream(ServletOutputStream delegate, FaultInjectionSettings.SlowBody slowBody) {
+            this.delegate = delegate;
+            this.chunkBytes = Math.max(1, slowBody.getChunkBytes());
+            this.chunkDelay = slowBody.getChunkDelay();
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            if (++chunkWritten == chunkBytes) {
+                endChunk();
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                int count = Math.min(length, chunkBytes - chunkWritten);
+                delegate.write(bytes, offset, count);
+                offset += count;
+                length -= count;
+                chunkWritten += count;
+                if (chunkWritten == chunkBytes) {
+                    endChunk();
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+
+        private void endChunk() throws IOException {
+            chunkWritten = 0;
+            delegate.flush();
+            sleep(chunkDelay);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.reliaquest.server.web;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Upstream conditions to simulate, bound from {@code mock.faults.*} at startup and replaceable at runtime through
+ * {@code PUT /admin/faults}. Durations in JSON are ISO-8601 ({@code "PT0.05S"}) or seconds ({@code 0.05}).
+ */
+@Data
+@ConfigurationProperties(prefix = "mock.faults")
+public class FaultInjectionSettings {
+
+    private boolean enabled;
+
+    /**
+     * Seeds every random decision. The n-th request matching a rule gets the same faults for the same seed, whatever
+     * the timing of the requests around it.
+     */
+    private long seed;
+
+    /**
+     * Checked in order; a request gets the faults of the first rule it matches.
+     */
+    private List<Rule> rules = new ArrayList<>();
+
+    /**
+     * Periods, measured from when these settings were applied, during which every request is answered {@code 429}.
+     */
+    private List<ThrottleWindow> throttleWindows = new ArrayList<>();
+
+    @Data
+    public static class Rule {
+
+        /**
+         * Ant-style pattern, such as {@code /api/v1/employee/*}.
+         */
+        private String path = "/**";
+
+        /**
+         * HTTP method to match; any when absent.
+         */
+        private String method;
+
+        private Latency latency = new Latency();
+
+        private double errorRate;
+
+        private int errorStatus = 500;
+
+        /**
+         * Share of requests whose connection is dropped after the response headers are sent.
+         */
+        private double disconnectRate;
+
+        private SlowBody slowBody;
+    }
+
+    @Data
+    public static class Latency {
+
+        public enum Distribution {
+            FIXED,
+            UNIFORM,
+            EXPONENTIAL
+        }
+
+        private Distribution distribution = Distribution.FIXED;
+
+        /**
+         * Added to every matching request.
+         */
+        private Duration base = Duration.ZERO;
+
+        /**
+         * Upper bound of the uniform distribution, or mean of the exponential one, added on top of {@link #base}.
+         */
+        private Duration jitter = Duration.ZERO;
+    }
+
+    @Data
+    public static class SlowBody {
+
+        private int chunkBytes = 1024;
+
+        private Duration chunkDelay = Duration.ofMillis(50);
+    }
+
+    @Data
+    public static class ThrottleWindow {
+
+        private Duration start = Duration.ZERO;
+
+        private Duration duration = Duration.ZERO;
+
+        /**
+         * Repeats the window every period when set.
+         */
+        private Duration period;
+    }
+}
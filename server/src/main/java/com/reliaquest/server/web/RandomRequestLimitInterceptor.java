@@ -4,6 +4,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.SplittableRandom;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.random.RandomGenerator;
 import lombok.Getter;
@@ -12,23 +13,39 @@ import org.springframework.web.servlet.HandlerInterceptor;
 
 public class RandomRequestLimitInterceptor implements HandlerInterceptor {
 
-    private static final int REQUEST_LIMIT = RandomGenerator.getDefault().nextInt(5, 10);
-    private static final Duration REQUEST_BACKOFF_DURATION =
-            Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90));
+    private final int requestLimitCount;
+    private final Duration requestBackoffDuration;
 
     private final AtomicReference<RequestLimit> requestLimit = new AtomicReference<>(RequestLimit.init());
 
+    public RandomRequestLimitInterceptor(int requestLimitCount, Duration requestBackoffDuration) {
+        this.requestLimitCount = requestLimitCount;
+        this.requestBackoffDuration = requestBackoffDuration;
+    }
+
+    /**
+     * Picks the limit and backoff at random, from {@code seed} when given so that runs can be repeated; {@code requests}
+     * and {@code backoff} override the random choice when given.
+     */
+    public static RandomRequestLimitInterceptor random(Long seed, Integer requests, Duration backoff) {
+        final RandomGenerator random = seed == null ? RandomGenerator.getDefault() : new SplittableRandom(seed);
+        final int randomRequests = random.nextInt(5, 10);
+        final Duration randomBackoff = Duration.ofSeconds(random.nextInt(30, 90));
+        return new RandomRequestLimitInterceptor(
+                requests == null ? randomRequests : requests, backoff == null ? randomBackoff : backoff);
+    }
+
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        if (requestLimit.get().getCount() >= REQUEST_LIMIT) {
+        if (requestLimit.get().getCount() >= requestLimitCount) {
             if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
+                    .minus(requestBackoffDuration)
                     .isBefore(requestLimit.get().getLastRequested())) {
                 response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
                 return false;
             }
             if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
+                    .minus(requestBackoffDuration)
                     .isAfter(requestLimit.get().getLastRequested())) {
                 requestLimit.set(RequestLimit.init());
             }
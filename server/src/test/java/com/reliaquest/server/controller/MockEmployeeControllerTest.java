@@ -0,0 +1,224 @@
+package com.reliaquest.server.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.endsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.reliaquest.common.shard.ConsistentHashRing;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.shard.ShardOwnership;
+import com.reliaquest.server.store.HeapEmployeeStore;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.Stream;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class MockEmployeeControllerTest {
+
+    private HeapEmployeeStore store;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setUp() {
+        store = new HeapEmployeeStore();
+        // Two shards, serving the first, so that requests for the other one can be told apart.
+        MockEmployeeService service = new MockEmployeeService(new Faker(Locale.ROOT), new ShardOwnership(2, 0), store);
+        mockMvc = MockMvcBuilders.standaloneSetup(new MockEmployeeController(service)).build();
+    }
+
+    @Test
+    public void testBatchCreatesEveryEmployeeInRequestOrder() throws Exception {
+        mockMvc.perform(post("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch(input(null, "Ann"), input(null, "Bob"), input(null, "Cid"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(3))
+                .andExpect(jsonPath("$.data[0].employee_name").value("Ann"))
+                .andExpect(jsonPath("$.data[1].employee_name").value("Bob"))
+                .andExpect(jsonPath("$.data[2].employee_name").value("Cid"))
+                .andExpect(jsonPath("$.data[0].employee_email").value(endsWith("@company.com")));
+
+        assertThat(store.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void testReplayedBatchCreatesNothingTwice() throws Exception {
+        UUID first = idOnShard(0);
+        UUID second = idOnShard(0);
+        String body = batch(input(first, "Ann"), input(second, "Bob"));
+
+        mockMvc.perform(post("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(first.toString()))
+                .andExpect(jsonPath("$.data[1].id").value(second.toString()));
+        String email = store.findById(first).orElseThrow().getEmail();
+
+        mockMvc.perform(post("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(first.toString()))
+                .andExpect(jsonPath("$.data[0].employee_email").value(email))
+                .andExpect(jsonPath("$.data[1].id").value(second.toString()));
+
+        assertThat(store.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void testRepeatedIdWithinBatchIsCreatedOnce() throws Exception {
+        UUID id = idOnShard(0);
+
+        mockMvc.perform(post("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch(input(id, "Ann"), input(id, "Ann"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[1].id").value(id.toString()));
+
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testReplayedCreateReturnsTheExistingEmployee() throws Exception {
+        UUID id = idOnShard(0);
+
+        mockMvc.perform(post("/api/v1/employee")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(input(id, "Ann")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(id.toString()));
+        mockMvc.perform(post("/api/v1/employee")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(input(id, "Ann")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(id.toString()));
+
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testIdsOwnedByAnotherShardAreMisdirected() throws Exception {
+        mockMvc.perform(post("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch(input(idOnShard(0), "Ann"), input(idOnShard(1), "Bob"))))
+                .andExpect(status().is(421));
+        mockMvc.perform(post("/api/v1/employee")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(input(idOnShard(1), "Bob")))
+                .andExpect(status().is(421));
+
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    public void testDeleteByIdRemovesOnlyThatEmployee() throws Exception {
+        MockEmployee ann = employee("Ann", 40_000, 25);
+        MockEmployee namesake = employee("Ann", 60_000, 35);
+        store.add(ann);
+        store.add(namesake);
+
+        mockMvc.perform(delete("/api/v1/employee/" + namesake.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.id").value(namesake.getId().toString()))
+                .andExpect(jsonPath("$.data.employee_salary").value(60_000));
+
+        assertThat(store.findById(namesake.getId())).isEmpty();
+        assertThat(store.findById(ann.getId())).contains(ann);
+        mockMvc.perform(delete("/api/v1/employee/" + namesake.getId())).andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testDeleteByIdOwnedByAnotherShardIsMisdirected() throws Exception {
+        mockMvc.perform(delete("/api/v1/employee/" + idOnShard(1))).andExpect(status().is(421));
+        mockMvc.perform(delete("/api/v1/employee/not-a-uuid")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testDeleteByNameStillRemovesTheFirstMatch() throws Exception {
+        MockEmployee ann = employee("Ann", 40_000, 25);
+        store.add(ann);
+
+        mockMvc.perform(delete("/api/v1/employee")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"ann\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(true));
+        mockMvc.perform(delete("/api/v1/employee")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Ann\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(false));
+
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    public void testFilterAppliesRangesSortAndLimit() throws Exception {
+        store.add(employee("Ann", 40_000, 25));
+        store.add(employee("Bob", 90_000, 35));
+        store.add(employee("Cid", 70_000, 45));
+        store.add(employee("Dee", 60_000, 38));
+        store.add(employee("Eve", 80_000, 30));
+
+        mockMvc.perform(get("/api/v1/employee/filter?minAge=30&maxAge=40&sort=salary&order=desc&limit=2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].employee_name").value("Bob"))
+                .andExpect(jsonPath("$.data[1].employee_name").value("Eve"));
+        mockMvc.perform(get("/api/v1/employee/filter?minSalary=60000&sort=age"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[*].employee_name").value(contains("Eve", "Bob", "Dee", "Cid")));
+    }
+
+    @Test
+    public void testFilterRejectsUnknownSortFieldsAndOrders() throws Exception {
+        mockMvc.perform(get("/api/v1/employee/filter?sort=name"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Unknown sort field: name"));
+        mockMvc.perform(get("/api/v1/employee/filter?order=sideways"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Unknown sort order: sideways"));
+    }
+
+    private static MockEmployee employee(String name, int salary, int age) {
+        return MockEmployee.builder()
+                .id(idOnShard(0))
+                .name(name)
+                .salary(salary)
+                .age(age)
+                .title("Engineer")
+                .email(name.toLowerCase(Locale.ROOT) + "@company.com")
+                .build();
+    }
+
+    private static UUID idOnShard(int shard) {
+        ConsistentHashRing ring = new ConsistentHashRing(2);
+        return Stream.generate(UUID::randomUUID)
+                .filter(id -> ring.shardFor(id) == shard)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static String batch(String... inputs) {
+        return "{\"employees\": [" + String.join(",", inputs) + "]}";
+    }
+
+    private static String input(UUID id, String name) {
+        String idField = id != null ? "\"id\": \"" + id + "\", " : "";
+        return "{" + idField + "\"name\": \"" + name + "\", \"salary\": 50000, \"age\": 30, \"title\": \"Engineer\"}";
+    }
+}
@@ -0,0 +1,57 @@
+package com.reliaquest.server.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.shard.ShardOwnership;
+import com.reliaquest.server.store.OffHeapEmployeeStore;
+import java.util.List;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeServiceTest {
+
+    private final OffHeapEmployeeStore store = OffHeapEmployeeStore.direct(1 << 20, 16);
+
+    private final MockEmployeeService service = new MockEmployeeService(new Faker(), new ShardOwnership(1, 0), store);
+
+    @AfterEach
+    public void tearDown() {
+        store.close();
+    }
+
+    @Test
+    public void testBatchRejectedByTheStorePartwayLeavesNothingStored() {
+        List<CreateMockEmployeeInput> batch =
+                List.of(input("Ann"), input("Bob"), input("x".repeat(70_000)), input("Cid"));
+
+        assertThatThrownBy(() -> service.createAll(batch)).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(store.size()).isZero();
+        assertThat(store.findAll()).isEmpty();
+        batch.forEach(input -> assertThat(store.findById(input.getId())).isEmpty());
+    }
+
+    @Test
+    public void testBatchCanBeRetriedAfterARejection() {
+        List<CreateMockEmployeeInput> batch = List.of(input("Ann"), input("x".repeat(70_000)));
+        assertThatThrownBy(() -> service.createAll(batch)).isInstanceOf(IllegalArgumentException.class);
+        batch.get(1).setName("Bob");
+
+        assertThat(service.createAll(batch)).hasSize(2);
+        assertThat(store.size()).isEqualTo(2);
+    }
+
+    private static CreateMockEmployeeInput input(String name) {
+        CreateMockEmployeeInput input = new CreateMockEmployeeInput();
+        input.setId(UUID.randomUUID());
+        input.setName(name);
+        input.setSalary(50_000);
+        input.setAge(30);
+        input.setTitle("Engineer");
+        return input;
+    }
+}
@@ -0,0 +1,94 @@
+package com.reliaquest.server.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Measures the heap retained by 1M employees held as {@link MockEmployee}s in a list and an id map, and in a
+ * {@link HeapEmployeeStore}, which also keeps its salary and age indexes. Run with
+ * {@code ./gradlew server:benchmark}.
+ */
+@Tag("benchmark")
+class HeapEmployeeStoreFootprintBenchmark {
+
+    private static final int EMPLOYEES = 1_000_000;
+
+    private static final String[] LEVELS = {"Senior", "Junior", "Lead", "Chief", "Principal", "Regional", "Global"};
+    private static final String[] AREAS = {"Marketing", "Sales", "Engineering", "Finance", "Operations", "Legal"};
+    private static final String[] ROLES = {"Engineer", "Manager", "Analyst", "Consultant", "Director", "Specialist"};
+    private static final String[] NAMES = {"Tiger", "Bill", "Jill", "Ashton", "Cedric", "Airi", "Brielle", "José"};
+
+    @Test
+    public void benchmarkStoreFootprint() {
+        Random random = new Random(42);
+        long before = usedHeap();
+        List<MockEmployee> rows = new ArrayList<>();
+        Map<UUID, MockEmployee> byId = new HashMap<>();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            MockEmployee employee = employee(random);
+            rows.add(employee);
+            byId.put(employee.getId(), employee);
+        }
+        long objects = usedHeap() - before;
+        rows = null;
+        byId = null;
+
+        random = new Random(42);
+        before = usedHeap();
+        HeapEmployeeStore store = new HeapEmployeeStore();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            store.add(employee(random));
+        }
+        long compact = usedHeap() - before;
+
+        System.out.printf(
+                "%d employees: objects %.1f MB (%.0f B each), heap store %.1f MB (%.0f B each, %.0f%%)%n",
+                EMPLOYEES,
+                objects / 1e6,
+                (double) objects / EMPLOYEES,
+                compact / 1e6,
+                (double) compact / EMPLOYEES,
+                100.0 * compact / objects);
+        assertThat(store.size()).isEqualTo(EMPLOYEES);
+        assertThat(compact).isLessThan(objects);
+    }
+
+    private static MockEmployee employee(Random random) {
+        String first = pick(random, NAMES);
+        String last = pick(random, NAMES) + "son";
+        return MockEmployee.builder()
+                .id(new UUID(random.nextLong(), random.nextLong()))
+                .name(first + " " + last)
+                .salary(30_000 + random.nextInt(470_000))
+                .age(16 + random.nextInt(60))
+                .title(pick(random, LEVELS) + " " + pick(random, AREAS) + " " + pick(random, ROLES))
+                .email(first.toLowerCase() + random.nextInt(10_000) + "@company.com")
+                .build();
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,95 @@
+package com.reliaquest.server.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.common.filter.EmployeeFilter;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class HeapEmployeeStoreTest {
+
+    private final HeapEmployeeStore store = new HeapEmployeeStore();
+
+    @Test
+    public void testFilterOnTheSortFieldStopsAtTheLimit() {
+        IntStream.of(50, 10, 90, 70, 30).mapToObj(salary -> employee(salary, 30)).forEach(store::add);
+
+        assertThat(store.findByFilter(EmployeeFilter.builder()
+                        .minSalary(20)
+                        .maxSalary(80)
+                        .descending(true)
+                        .limit(2)
+                        .build()))
+                .extracting(MockEmployee::getSalary)
+                .containsExactly(70, 50);
+    }
+
+    @Test
+    public void testFilterOnTheOtherFieldIsSortedAndLimited() {
+        store.add(employee(50, 41));
+        store.add(employee(10, 40));
+        store.add(employee(90, 20));
+        store.add(employee(70, 42));
+        store.add(employee(30, 43));
+
+        assertThat(store.findByFilter(EmployeeFilter.builder()
+                        .minAge(40)
+                        .descending(true)
+                        .limit(3)
+                        .build()))
+                .extracting(MockEmployee::getSalary)
+                .containsExactly(70, 50, 30);
+        assertThat(store.findByFilter(EmployeeFilter.builder()
+                        .maxAge(41)
+                        .sortBy(EmployeeFilter.SortField.SALARY)
+                        .build()))
+                .extracting(MockEmployee::getSalary)
+                .containsExactly(10, 50, 90);
+    }
+
+    @Test
+    public void testFilterBreaksTiesInInsertionOrderBothWays() {
+        List<MockEmployee> employees =
+                IntStream.range(0, 3).mapToObj(i -> employee(100, 30 + i)).toList();
+        employees.forEach(store::add);
+
+        assertThat(store.findByFilter(EmployeeFilter.builder().minAge(30).build()))
+                .containsExactlyElementsOf(employees);
+        assertThat(store.findByFilter(EmployeeFilter.builder().minAge(30).descending(true).build()))
+                .containsExactly(employees.get(2), employees.get(1), employees.get(0));
+    }
+
+    @Test
+    public void testFilterSkipsRemovedEmployeesAndMissingSortValues() {
+        MockEmployee removed = employee(60, 30);
+        MockEmployee withoutSalary =
+                MockEmployee.builder().id(UUID.randomUUID()).name("No salary").age(30).build();
+        store.add(removed);
+        store.add(withoutSalary);
+        store.add(employee(40, 30));
+        store.removeById(removed.getId());
+
+        assertThat(store.findByFilter(EmployeeFilter.builder().minAge(18).build()))
+                .extracting(MockEmployee::getSalary)
+                .containsExactly(40);
+        assertThat(store.findByFilter(EmployeeFilter.builder()
+                        .sortBy(EmployeeFilter.SortField.AGE)
+                        .build()))
+                .hasSize(2);
+        assertThat(store.findByFilter(EmployeeFilter.builder().limit(0).build())).isEmpty();
+    }
+
+    private static MockEmployee employee(int salary, int age) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name("Employee " + salary + "/" + age)
+                .salary(salary)
+                .age(age)
+                .title("Engineer")
+                .email("employee" + salary + "@company.com")
+                .build();
+    }
+}
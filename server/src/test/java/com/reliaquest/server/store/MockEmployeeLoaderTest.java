@@ -0,0 +1,80 @@
+package com.reliaquest.server.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.shard.ShardOwnership;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+class MockEmployeeLoaderTest {
+
+    private final HeapEmployeeStore store = new HeapEmployeeStore();
+
+    @Test
+    public void testLoadsDuringStartupByDefault() {
+        MockEmployeeLoader loader = loader(store, false);
+
+        loader.loadDuringStartup();
+        loader.loadInBackground();
+
+        assertThat(loader.isLoaded()).isTrue();
+        assertThat(store.size()).isEqualTo(25);
+        assertThat(store.findAll()).allMatch(employee -> employee.getEmail().endsWith(MockEmployee.EMAIL_SUFFIX));
+    }
+
+    @Test
+    public void testBackgroundLoadWaitsForTheReadyEvent() throws Exception {
+        MockEmployeeLoader loader = loader(store, true);
+        MockEmployeeLoaderHealthIndicator healthIndicator = new MockEmployeeLoaderHealthIndicator(loader);
+
+        loader.loadDuringStartup();
+
+        assertThat(loader.isLoaded()).isFalse();
+        assertThat(store.size()).isZero();
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+
+        loader.loadInBackground();
+        awaitLoaded(loader);
+
+        assertThat(store.size()).isEqualTo(25);
+        assertThat(loader.getLoadedEmployees()).isEqualTo(25);
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    public void testHealthReportsProgressAndStaysOutOfServiceWhenLoadingFails() {
+        HeapEmployeeStore failingStore = new HeapEmployeeStore() {
+            @Override
+            public void add(MockEmployee employee) {
+                if (size() == 10) {
+                    throw new IllegalStateException("Store is full");
+                }
+                super.add(employee);
+            }
+        };
+        MockEmployeeLoader loader = loader(failingStore, false);
+
+        assertThatThrownBy(loader::loadDuringStartup).isInstanceOf(IllegalStateException.class);
+
+        Health health = new MockEmployeeLoaderHealthIndicator(loader).health();
+        assertThat(loader.isLoaded()).isFalse();
+        assertThat(health.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(health.getDetails()).containsEntry("loaded", 10).containsEntry("max", 25);
+    }
+
+    private static MockEmployeeLoader loader(EmployeeStore store, boolean backgroundLoad) {
+        return new MockEmployeeLoader(store, new Faker(), new ShardOwnership(1, 0), 25, backgroundLoad);
+    }
+
+    private static void awaitLoaded(MockEmployeeLoader loader) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!loader.isLoaded() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(loader.isLoaded()).isTrue();
+    }
+}
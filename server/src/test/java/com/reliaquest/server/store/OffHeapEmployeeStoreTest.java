@@ -0,0 +1,185 @@
+package com.reliaquest.server.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.reliaquest.common.filter.EmployeeFilter;
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class OffHeapEmployeeStoreTest {
+
+    @Test
+    public void testRoundTripsEveryField() {
+        try (OffHeapEmployeeStore store = OffHeapEmployeeStore.direct(4096, 16)) {
+            MockEmployee employee = employee(42_000);
+            MockEmployee sparse = MockEmployee.builder()
+                    .id(UUID.randomUUID())
+                    .name("Zoë Ünicode")
+                    .build();
+
+            store.add(employee);
+            store.add(sparse);
+
+            assertThat(store.findById(employee.getId())).contains(employee);
+            assertThat(store.findById(sparse.getId())).contains(sparse);
+            assertThat(store.findById(UUID.randomUUID())).isEmpty();
+        }
+    }
+
+    @Test
+    public void testSpansSegmentsAndGrowsIndex() {
+        try (OffHeapEmployeeStore store = OffHeapEmployeeStore.direct(1024, 4)) {
+            List<MockEmployee> employees = IntStream.range(0, 5_000)
+                    .mapToObj(this::employee)
+                    .toList();
+
+            employees.forEach(store::add);
+
+            assertThat(store.size()).isEqualTo(5_000);
+            assertThat(store.findAll()).containsExactlyElementsOf(employees);
+            employees.forEach(employee -> assertThat(store.findById(employee.getId()))
+                    .contains(employee));
+        }
+    }
+
+    @Test
+    public void testRemovedEmployeesDisappear() {
+        try (OffHeapEmployeeStore store = OffHeapEmployeeStore.direct(4096, 16)) {
+            List<MockEmployee> employees = new ArrayList<>();
+            IntStream.range(0, 100).mapToObj(this::employee).forEach(employee -> {
+                employees.add(employee);
+                store.add(employee);
+            });
+
+            assertThat(store.removeById(employees.get(10).getId())).contains(employees.get(10));
+            assertThat(store.removeById(employees.get(10).getId())).isEmpty();
+
+            assertThat(store.size()).isEqualTo(99);
+            assertThat(store.findById(employees.get(10).getId())).isEmpty();
+            assertThat(store.findAll()).hasSize(99).doesNotContain(employees.get(10));
+            assertThat(store.findFirstByName(employees.get(10).getName())).isEmpty();
+            assertThat(store.findFirstByName(employees.get(11).getName().toUpperCase()))
+                    .contains(employees.get(11));
+        }
+    }
+
+    @Test
+    public void testFindAllIsASnapshotWithIndexedAccess() {
+        try (OffHeapEmployeeStore store = OffHeapEmployeeStore.direct(4096, 16)) {
+            List<MockEmployee> employees =
+                    IntStream.range(0, 50).mapToObj(this::employee).toList();
+            employees.forEach(store::add);
+            IntStream.of(0, 1, 7, 8, 9, 30, 49).forEach(i -> store.removeById(employees.get(i).getId()));
+            List<MockEmployee> expected = new ArrayList<>(employees);
+            expected.removeIf(employee -> store.findById(employee.getId()).isEmpty());
+
+            List<MockEmployee> all = store.findAll();
+            store.removeById(employees.get(20).getId());
+            store.add(employee(1_000));
+
+            assertThat(all).hasSize(43).containsExactlyElementsOf(expected);
+            assertThat(IntStream.range(0, all.size()).mapToObj(all::get)).containsExactlyElementsOf(expected);
+            assertThat(store.findAll()).hasSize(43).doesNotContain(employees.get(20));
+        }
+    }
+
+    @Test
+    public void testTopBySalaryIsOrderedHighestFirst() {
+        try (OffHeapEmployeeStore store = OffHeapEmployeeStore.direct(4096, 16)) {
+            IntStream.of(50, 10, 90, 70, 30).mapToObj(this::employee).forEach(store::add);
+
+            assertThat(store.findTopBySalary(3))
+                    .extracting(MockEmployee::getSalary)
+                    .containsExactly(90, 70, 50);
+        }
+    }
+
+    @Test
+    public void testFilterCombinesRangesWithSortAndLimit() {
+        try (OffHeapEmployeeStore store = OffHeapEmployeeStore.direct(4096, 16)) {
+            List<MockEmployee> employees =
+                    IntStream.range(0, 200).mapToObj(i -> employee(1_001 * i)).toList();
+            employees.forEach(store::add);
+            store.removeById(employees.get(150).getId());
+
+            List<MockEmployee> matches = store.findByFilter(EmployeeFilter.builder()
+                    .minSalary(100_000)
+                    .maxSalary(190_000)
+                    .maxAge(40)
+                    .sortBy(EmployeeFilter.SortField.SALARY)
+                    .descending(true)
+                    .limit(5)
+                    .build());
+
+            assertThat(matches)
+                    .extracting(MockEmployee::getSalary)
+                    .containsExactly(170_170, 169_169, 168_168, 167_167, 166_166);
+
+            assertThat(store.findByFilter(EmployeeFilter.builder()
+                            .minSalary(149_000)
+                            .maxSalary(152_000)
+                            .build()))
+                    .extracting(MockEmployee::getSalary)
+                    .containsExactly(149_149, 151_151);
+        }
+    }
+
+    @Test
+    public void testFilterBoundedOnlyByTheOtherFieldIsSortedAndLimited() {
+        try (OffHeapEmployeeStore store = OffHeapEmployeeStore.direct(4096, 16)) {
+            List<MockEmployee> employees =
+                    IntStream.range(0, 200).mapToObj(i -> employee(1_001 * i)).toList();
+            employees.forEach(store::add);
+
+            List<MockEmployee> matches = store.findByFilter(EmployeeFilter.builder()
+                    .minAge(30)
+                    .maxAge(32)
+                    .sortBy(EmployeeFilter.SortField.SALARY)
+                    .descending(true)
+                    .limit(4)
+                    .build());
+
+            assertThat(matches)
+                    .containsExactlyElementsOf(employees.stream()
+                            .filter(employee -> employee.getAge() >= 30 && employee.getAge() <= 32)
+                            .sorted(Comparator.comparingInt(MockEmployee::getSalary).reversed())
+                            .limit(4)
+                            .toList())
+                    .hasSize(4);
+        }
+    }
+
+    @Test
+    public void testMappedStore(@TempDir Path directory) {
+        try (OffHeapEmployeeStore store = OffHeapEmployeeStore.mapped(directory, 1024, 16)) {
+            List<MockEmployee> employees =
+                    IntStream.range(0, 500).mapToObj(this::employee).toList();
+
+            employees.forEach(store::add);
+
+            assertThat(store.findAll()).containsExactlyElementsOf(employees);
+            assertThat(store.findById(employees.get(250).getId())).contains(employees.get(250));
+            assertThat(store.findByFilter(EmployeeFilter.builder().maxSalary(2).build()))
+                    .containsExactly(employees.get(0), employees.get(1), employees.get(2));
+            assertThat(directory.resolve("employees.indexes")).isNotEmptyFile();
+        }
+    }
+
+    private MockEmployee employee(int salary) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name("Employee " + salary)
+                .salary(salary)
+                .age(20 + salary % 50)
+                .title("Engineer")
+                .email("employee" + salary + "@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.reliaquest.server.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.TreeSet;
+import org.junit.jupiter.api.Test;
+
+class RangeIndexTest {
+
+    @Test
+    public void testScansMatchASortedSetAcrossChunkSplitsAndMerges() {
+        RangeIndex index = new RangeIndex(capacity -> ByteBuffer.allocateDirect(capacity * Long.BYTES)
+                .asLongBuffer());
+        TreeSet<Long> expected = new TreeSet<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            int value = random.nextInt(1_000) - 500;
+            int row = random.nextInt(50_000);
+            if (random.nextInt(3) == 0) {
+                index.remove(value, row);
+                expected.remove(RangeIndex.pack(value, row));
+            } else {
+                index.add(value, row);
+                expected.add(RangeIndex.pack(value, row));
+            }
+        }
+
+        assertThat(index.size()).isEqualTo(expected.size());
+        for (int query = 0; query < 500; query++) {
+            int min = random.nextInt(1_200) - 600;
+            int max = min + random.nextInt(300);
+            boolean descending = random.nextBoolean();
+            int limit = 1 + random.nextInt(5_000);
+
+            assertThat(scan(index, min, max, descending, limit))
+                    .as("[%d, %d] descending=%s limit=%d", min, max, descending, limit)
+                    .containsExactlyElementsOf(expectedRows(expected, min, max, descending, limit));
+        }
+    }
+
+    @Test
+    public void testEmptyAndInvertedRanges() {
+        RangeIndex index = RangeIndex.onHeap();
+
+        assertThat(scan(index, 0, 10, false, 10)).isEmpty();
+
+        index.add(5, 1);
+        index.add(5, 0);
+        index.add(7, 2);
+
+        assertThat(scan(index, 10, 0, false, 10)).isEmpty();
+        assertThat(scan(index, 5, 5, false, 10)).containsExactly(0, 1);
+        assertThat(scan(index, Integer.MIN_VALUE, Integer.MAX_VALUE, true, 10)).containsExactly(2, 1, 0);
+
+        index.remove(5, 0);
+        index.remove(5, 1);
+        index.remove(7, 2);
+
+        assertThat(index.size()).isZero();
+        assertThat(scan(index, Integer.MIN_VALUE, Integer.MAX_VALUE, false, 10)).isEmpty();
+    }
+
+    private static List<Integer> scan(RangeIndex index, int min, int max, boolean descending, int limit) {
+        List<Integer> rows = new ArrayList<>();
+        index.scan(min, max, descending, row -> {
+            rows.add(row);
+            return rows.size() < limit;
+        });
+        return rows;
+    }
+
+    private static List<Integer> expectedRows(
+            TreeSet<Long> entries, int min, int max, boolean descending, int limit) {
+        NavigableSet<Long> range = entries.subSet(RangeIndex.pack(min, 0), true, RangeIndex.pack(max, -1), true);
+        return (descending ? range.descendingSet() : range)
+                .stream()
+                .limit(limit)
+                .map(RangeIndex::row)
+                .toList();
+    }
+}
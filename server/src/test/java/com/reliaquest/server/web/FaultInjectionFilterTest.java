@@ -0,0 +1,167 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class FaultInjectionFilterTest {
+
+    private static final String BODY = "{\"data\":[\"0123456789abcdefghij\"]}";
+
+    private final AtomicInteger handled = new AtomicInteger();
+
+    @Test
+    public void testDisconnectCutsTheBodyShortAndClosesTheConnection() throws Exception {
+        FaultInjectionSettings.Rule rule = rule();
+        rule.setDisconnectRate(1);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter(rule).doFilter(request(), response, chain());
+
+        assertThat(handled).hasValue(0);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.CONNECTION)).isEqualTo("close");
+        assertThat(response.isCommitted()).isTrue();
+        assertThat(response.getContentAsString()).isEqualTo("{\"data\":[");
+        assertThat(response.getContentLength()).isGreaterThan(response.getContentAsByteArray().length);
+    }
+
+    @Test
+    public void testSlowBodyIsFlushedInDelayedChunks() throws Exception {
+        FaultInjectionSettings.Rule rule = rule();
+        rule.setSlowBody(new FaultInjectionSettings.SlowBody());
+        rule.getSlowBody().setChunkBytes(8);
+        rule.getSlowBody().setChunkDelay(Duration.ofMillis(5));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FlushRecordingResponse recording = new FlushRecordingResponse(response);
+
+        long start = System.nanoTime();
+        filter(rule).doFilter(request(), recording, chain());
+        long elapsed = System.nanoTime() - start;
+
+        assertThat(handled).hasValue(1);
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+        assertThat(recording.flushedAt).containsExactly(8, 16, 24, 32);
+        assertThat(Duration.ofNanos(elapsed)).isGreaterThanOrEqualTo(Duration.ofMillis(20));
+    }
+
+    @Test
+    public void testSlowBodyChunksWhatIsWrittenThroughTheWriter() throws Exception {
+        FaultInjectionSettings.Rule rule = rule();
+        rule.setSlowBody(new FaultInjectionSettings.SlowBody());
+        rule.getSlowBody().setChunkBytes(16);
+        rule.getSlowBody().setChunkDelay(Duration.ZERO);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FlushRecordingResponse recording = new FlushRecordingResponse(response);
+
+        filter(rule).doFilter(request(), recording, (request, chainResponse) -> {
+            chainResponse.getWriter().write(BODY);
+            chainResponse.flushBuffer();
+        });
+
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+        assertThat(recording.flushedAt).containsExactly(16, 32, BODY.length());
+    }
+
+    @Test
+    public void testNoFaultPassesTheResponseThrough() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter(rule()).doFilter(request(), response, chain());
+
+        assertThat(handled).hasValue(1);
+        assertThat(response.getContentAsString()).isEqualTo(BODY);
+    }
+
+    private FaultInjectionFilter filter(FaultInjectionSettings.Rule rule) {
+        FaultInjectionSettings settings = new FaultInjectionSettings();
+        settings.setEnabled(true);
+        settings.setSeed(42);
+        settings.getRules().add(rule);
+        return new FaultInjectionFilter(new FaultInjection(settings), new ObjectMapper());
+    }
+
+    private FilterChain chain() {
+        return (request, response) -> {
+            handled.incrementAndGet();
+            response.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/api/v1/employee");
+    }
+
+    private static FaultInjectionSettings.Rule rule() {
+        FaultInjectionSettings.Rule rule = new FaultInjectionSettings.Rule();
+        rule.setPath("/api/**");
+        return rule;
+    }
+
+    /**
+     * Records how many body bytes had been written each time the filter flushed the underlying stream.
+     */
+    private static final class FlushRecordingResponse extends HttpServletResponseWrapper {
+
+        private final List<Integer> flushedAt = new ArrayList<>();
+        private ServletOutputStream outputStream;
+
+        private FlushRecordingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream delegate = super.getOutputStream();
+                outputStream = new ServletOutputStream() {
+                    private int written;
+
+                    @Override
+                    public void write(int b) throws IOException {
+                        delegate.write(b);
+                        written++;
+                    }
+
+                    @Override
+                    public void write(byte[] bytes, int offset, int length) throws IOException {
+                        delegate.write(bytes, offset, length);
+                        written += length;
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        if (flushedAt.isEmpty() || flushedAt.get(flushedAt.size() - 1) != written) {
+                            flushedAt.add(written);
+                        }
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return true;
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {}
+                };
+            }
+            return outputStream;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.reliaquest.server.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class FaultInjectionTest {
+
+    @Test
+    public void testSameSeedReplaysSameFaults() {
+        List<FaultInjection.Fault> first = draw(new FaultInjection(settings(7)), 200);
+        List<FaultInjection.Fault> second = draw(new FaultInjection(settings(7)), 200);
+        List<FaultInjection.Fault> otherSeed = draw(new FaultInjection(settings(8)), 200);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(otherSeed).isNotEqualTo(first);
+        assertThat(first).anyMatch(fault -> fault.errorStatus() == 503);
+        assertThat(first).anyMatch(FaultInjection.Fault::disconnect);
+        assertThat(first)
+                .allMatch(fault -> fault.latency().compareTo(Duration.ofMillis(20)) >= 0
+                        && fault.latency().compareTo(Duration.ofMillis(120)) <= 0);
+    }
+
+    @Test
+    public void testApplyingSettingsRestartsTheSequence() {
+        FaultInjection faultInjection = new FaultInjection(settings(7));
+        List<FaultInjection.Fault> first = draw(faultInjection, 50);
+
+        faultInjection.apply(settings(7));
+
+        assertThat(draw(faultInjection, 50)).isEqualTo(first);
+    }
+
+    @Test
+    public void testFirstMatchingRuleApplies() {
+        FaultInjectionSettings settings = settings(1);
+        FaultInjectionSettings.Rule deletes = new FaultInjectionSettings.Rule();
+        deletes.setPath("/api/v1/employee/*");
+        deletes.setMethod("DELETE");
+        deletes.setErrorRate(1);
+        deletes.setErrorStatus(502);
+        settings.getRules().add(0, deletes);
+        FaultInjection faultInjection = new FaultInjection(settings);
+
+        assertThat(faultInjection.next("delete", "/api/v1/employee/42").errorStatus())
+                .isEqualTo(502);
+        assertThat(faultInjection.next("GET", "/api/v1/employee/42").errorStatus())
+                .isNotEqualTo(502);
+        assertThat(faultInjection.next("GET", "/admin/faults")).isEqualTo(FaultInjection.Fault.NONE);
+    }
+
+    @Test
+    public void testThrottleWindowsRepeatEveryPeriod() {
+        FaultInjectionSettings settings = settings(1);
+        FaultInjectionSettings.ThrottleWindow window = new FaultInjectionSettings.ThrottleWindow();
+        window.setStart(Duration.ofSeconds(10));
+        window.setDuration(Duration.ofSeconds(5));
+        window.setPeriod(Duration.ofSeconds(60));
+        settings.getThrottleWindows().add(window);
+        AtomicLong clock = new AtomicLong();
+        FaultInjection faultInjection = new FaultInjection(settings, clock::get);
+
+        assertThat(faultInjection.throttled()).isEmpty();
+        clock.set(Duration.ofSeconds(12).toNanos());
+        assertThat(faultInjection.throttled()).contains(Duration.ofSeconds(3));
+        clock.set(Duration.ofSeconds(15).toNanos());
+        assertThat(faultInjection.throttled()).isEmpty();
+        clock.set(Duration.ofSeconds(71).toNanos());
+        assertThat(faultInjection.throttled()).contains(Duration.ofSeconds(4));
+    }
+
+    private static List<FaultInjection.Fault> draw(FaultInjection faultInjection, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(ignored -> faultInjection.next("GET", "/api/v1/employee"))
+                .toList();
+    }
+
+    private static FaultInjectionSettings settings(long seed) {
+        FaultInjectionSettings.Rule rule = new FaultInjectionSettings.Rule();
+        rule.setPath("/api/**");
+        rule.getLatency().setDistribution(FaultInjectionSettings.Latency.Distribution.UNIFORM);
+        rule.getLatency().setBase(Duration.ofMillis(20));
+        rule.getLatency().setJitter(Duration.ofMillis(100));
+        rule.setErrorRate(0.1);
+        rule.setErrorStatus(503);
+        rule.setDisconnectRate(0.05);
+        FaultInjectionSettings settings = new FaultInjectionSettings();
+        settings.setEnabled(true);
+        settings.setSeed(seed);
+        settings.getRules().add(rule);
+        return settings;
+    }
+}